@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드 처리량 비교
+#
+# toxiproxy를 MySQL/Redis 앞에 두고 지연(IO_LATENCY_MS)을 주입하여 블로킹 I/O 비중이 큰 상황을 재현한 뒤,
+# 같은 빌드를 spring.threads.virtual.enabled=false/true로 각각 띄워 ThreadModeBenchmark(./gradlew loadTest)를 실행
+#
+# 전제
+#  - docker 사용 가능, MySQL/Redis가 로컬(기본 3306/6379)에서 실행 중이고 .env가 설정되어 있음
+#  - BENCH_USER_ID / BENCH_PASSWORD 계정과 게시글이 미리 존재
+#  - BENCH_DB_URL: toxiproxy를 거치는 JDBC URL (예: jdbc:mysql://localhost:23306/board2)
+#
+# 가상 스레드 모드의 고정(pinning) 발생 여부는 build/bench/*.jfr의 jdk.VirtualThreadPinned 이벤트로 확인
+#   jfr print --events jdk.VirtualThreadPinned build/bench/virtual-true.jfr
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+IO_LATENCY_MS=${IO_LATENCY_MS:-20}
+CONCURRENCY=${CONCURRENCY:-400}
+DURATION=${DURATION:-30}
+TOMCAT_THREADS=${TOMCAT_THREADS:-200}
+DB_POOL_SIZE=${DB_POOL_SIZE:-20}
+MYSQL_UPSTREAM=${MYSQL_UPSTREAM:-host.docker.internal:3306}
+REDIS_UPSTREAM=${REDIS_UPSTREAM:-host.docker.internal:6379}
+: "${BENCH_DB_URL:?toxiproxy(23306)를 거치는 JDBC URL을 BENCH_DB_URL로 지정하세요}"
+
+APP_PID=""
+cleanup() {
+    if [[ -n "$APP_PID" ]]; then kill "$APP_PID" 2>/dev/null || true; fi
+    docker rm -f board2-toxiproxy >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker run -d --rm --name board2-toxiproxy --add-host=host.docker.internal:host-gateway \
+    -p 8474:8474 -p 23306:23306 -p 26379:26379 ghcr.io/shopify/toxiproxy:2.9.0 >/dev/null
+sleep 2
+
+for proxy in "mysql 23306 $MYSQL_UPSTREAM" "redis 26379 $REDIS_UPSTREAM"; do
+    read -r name port upstream <<< "$proxy"
+    curl -sf -X POST localhost:8474/proxies \
+        -d "{\"name\":\"$name\",\"listen\":\"0.0.0.0:$port\",\"upstream\":\"$upstream\"}" >/dev/null
+    curl -sf -X POST "localhost:8474/proxies/$name/toxics" \
+        -d "{\"type\":\"latency\",\"attributes\":{\"latency\":$IO_LATENCY_MS}}" >/dev/null
+done
+
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+mkdir -p build/bench
+
+for virtual in false true; do
+    echo "=== spring.threads.virtual.enabled=$virtual (I/O latency ${IO_LATENCY_MS}ms) ==="
+    java -XX:StartFlightRecording=filename=build/bench/virtual-$virtual.jfr,settings=profile \
+        -jar "$JAR" \
+        --spring.threads.virtual.enabled=$virtual \
+        --server.tomcat.threads.max=$TOMCAT_THREADS \
+        --spring.datasource.url="$BENCH_DB_URL" \
+        --spring.datasource.hikari.maximum-pool-size=$DB_POOL_SIZE \
+        --spring.data.redis.host=localhost \
+        --spring.data.redis.port=26379 \
+        > build/bench/app-virtual-$virtual.log 2>&1 &
+    APP_PID=$!
+
+    until [[ "$(curl -s -o /dev/null -w '%{http_code}' localhost:8080/posts)" != "000" ]]; do sleep 1; done
+
+    ./gradlew -q loadTest --args="http://localhost:8080 $CONCURRENCY $DURATION"
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=""
+done
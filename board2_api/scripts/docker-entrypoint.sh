@@ -0,0 +1,10 @@
+#!/bin/sh
+# 컨테이너 실행 스크립트: CDS 아카이브와 AOT 사용 여부를 환경 변수로 선택 (JAVA_OPTS는 그대로 전달)
+set -e
+
+CDS_OPTS=""
+if [ "${CDS_ENABLED:-true}" = "true" ] && [ -f app.jsa ]; then
+    CDS_OPTS="-XX:SharedArchiveFile=app.jsa"
+fi
+
+exec java $CDS_OPTS -Dspring.aot.enabled="${SPRING_AOT_ENABLED:-true}" $JAVA_OPTS -jar app.jar "$@"
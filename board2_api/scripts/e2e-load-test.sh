@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# 로컬 의존성 기반 종단간 부하 테스트
+#
+# 1. docker-compose.loadtest.yml로 MySQL / Redis / MinIO(S3 호환)를 띄움
+# 2. loadtest 프로필로 애플리케이션을 띄워 Flyway 마이그레이션 후 데이터셋 생성 (DataSeeder, 이미 있으면 건너뜀)
+# 3. Redis를 비우고 애플리케이션을 다시 띄움 (시드 이전의 캐시/콘텐츠 버전을 버리고 시드 데이터로 워밍업)
+# 4. ArrivalRateBenchmark로 고정 도착률 부하를 주고 엔드포인트별 p50/p99와 처리량 보고
+#
+# 사용: ./gradlew e2eLoadTest  또는  scripts/e2e-load-test.sh
+# 설정(환경 변수)
+#  - RATE(초당 요청 수, 기본 300), DURATION(측정 초, 기본 120), WARM_UP(워밍업 초, 기본 20)
+#  - MIX(요청 비율, 기본 list=60,detail=30,search=7,create=3)
+#  - SEED_POSTS(기본 1000000), SEED_COMMENTS(기본 10000000), SEED_USERS(기본 1000)
+#  - KEEP_RUNNING=true이면 끝난 뒤에도 컨테이너를 실행 상태로 둠 (기본은 중지, 볼륨의 데이터셋은 유지)
+# 결과: build/loadtest/report.json, 애플리케이션 로그: build/loadtest/app.log
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RATE=${RATE:-300}
+DURATION=${DURATION:-120}
+WARM_UP=${WARM_UP:-20}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+COMPOSE=(docker compose -f docker-compose.loadtest.yml)
+
+APP_PID=""
+cleanup() {
+    if [[ -n "$APP_PID" ]]; then kill "$APP_PID" 2>/dev/null || true; fi
+    if [[ "${KEEP_RUNNING:-false}" != "true" ]]; then "${COMPOSE[@]}" stop >/dev/null 2>&1 || true; fi
+}
+trap cleanup EXIT
+
+# Gradle 태스크(e2eLoadTest)로 실행되면 전달받은 클래스패스를 사용하고, 직접 실행하면 Gradle에 맡김
+run_tool() {
+    local main=$1 task=$2; shift 2
+    if [[ -n "${LOADTEST_CLASSPATH:-}" ]]; then
+        java -cp "$LOADTEST_CLASSPATH" "$main" "$@"
+    else
+        ./gradlew -q "$task" --args="$*"
+    fi
+}
+
+start_app() {
+    java -jar "$JAR" --spring.profiles.active=loadtest >> build/loadtest/app.log 2>&1 &
+    APP_PID=$!
+    # readiness는 워밍업이 끝난 뒤 UP이 됨
+    until [[ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE_URL/readyz")" == "200" ]]; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "애플리케이션이 종료되었습니다. build/loadtest/app.log를 확인하세요." >&2
+            exit 1
+        fi
+        sleep 1
+    done
+}
+
+stop_app() {
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=""
+}
+
+"${COMPOSE[@]}" up -d --wait mysql redis minio
+"${COMPOSE[@]}" run --rm minio-init >/dev/null
+
+if [[ -z "${LOADTEST_CLASSPATH:-}" ]]; then ./gradlew -q bootJar; fi
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+mkdir -p build/loadtest
+: > build/loadtest/app.log
+
+echo "=== 데이터셋 준비 ==="
+start_app
+run_tool lch.bench.DataSeeder seedData "$BASE_URL"
+stop_app
+
+"${COMPOSE[@]}" exec -T redis redis-cli FLUSHALL >/dev/null
+
+echo "=== 고정 도착률 부하: ${RATE} req/s, ${DURATION}s (워밍업 ${WARM_UP}s) ==="
+start_app
+run_tool lch.bench.ArrivalRateBenchmark arrivalRateTest "$BASE_URL" "$RATE" "$DURATION" "$WARM_UP"
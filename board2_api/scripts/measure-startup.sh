@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# 기동 시간 비교: 같은 이미지를 (기본 JVM / AppCDS / AppCDS + AOT) 설정으로 각각 RUNS회 실행하여
+#  - started_s : Spring이 보고하는 "Started ... in N seconds" (컨텍스트 초기화 완료까지)
+#  - first_ms  : docker run 직후부터 첫 HTTP 응답(상태 코드 무관)을 받기까지의 벽시계 시간
+# 을 출력 (CDS/AOT 도입 전후 비교는 이 표의 baseline 행과 cds+aot 행을 비교)
+#
+# 전제
+#  - docker 사용 가능, MySQL/Redis에 접속 가능한 ENV_FILE(기본 ../.env)이 있음
+#  - IMAGE가 없으면 현재 소스로 빌드
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+IMAGE=${IMAGE:-board2-api:startup}
+ENV_FILE=${ENV_FILE:-../.env}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+PROBE_PATH=${PROBE_PATH:-/posts?page=0&size=1}
+
+if ! docker image inspect "$IMAGE" >/dev/null 2>&1; then
+    docker build -t "$IMAGE" .
+fi
+
+now_ms() { date +%s%3N; }
+
+measure() {
+    local variant=$1 cds=$2 aot=$3
+    for run in $(seq 1 "$RUNS"); do
+        local start cid first_ms code started
+        start=$(now_ms)
+        cid=$(docker run -d --rm --env-file "$ENV_FILE" -p "$PORT:8080" \
+            -e CDS_ENABLED="$cds" -e SPRING_AOT_ENABLED="$aot" "$IMAGE")
+
+        first_ms=""
+        for _ in $(seq 1 1200); do
+            code=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT$PROBE_PATH" || true)
+            if [[ "$code" != "000" ]]; then
+                first_ms=$(( $(now_ms) - start ))
+                break
+            fi
+            sleep 0.05
+        done
+
+        started=$(docker logs "$cid" 2>&1 | sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' | head -1)
+        docker rm -f "$cid" >/dev/null
+        printf '%-10s %3d %10s %10s\n' "$variant" "$run" "${started:-?}" "${first_ms:-timeout}"
+    done
+}
+
+printf '%-10s %3s %10s %10s\n' variant run started_s first_ms
+measure baseline false false
+measure cds true false
+measure cds+aot true true
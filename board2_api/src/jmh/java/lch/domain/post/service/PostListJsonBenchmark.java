@@ -0,0 +1,87 @@
+package lch.domain.post.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import lch.domain.post.dto.PostListResponse;
+import lch.domain.post.repository.PostSummaryView;
+import lch.global.error.ApiResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+/*
+ * 목록/검색 응답 생성 비용 측정
+ * - 프로젝션 페이지(PostSummaryView)를 PostListResponse 페이지로 변환 (같은 패키지에서 PostService.toListResponse를 직접 호출,
+ *   닉네임은 캐시 적중을 가정하여 미리 만든 값을 전달)
+ * - ApiResponse<Page<PostListResponse>>를 JSON 바이트로 직렬화 (MVC 메시지 컨버터 / PostJsonCache가 하는 작업)
+ * DB/Redis 호출은 포함하지 않음
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostListJsonBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private Page<PostSummaryView> views;
+    private Map<Long, String> nicknames;
+    private ApiResponse<Page<PostListResponse>> response;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<PostSummaryView> content = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new SummaryView(10_000L - i, "게시글 제목 " + i + " - 성능 측정용 샘플 데이터", 100L + i % 7,
+                    1_000L + i, now.minusMinutes(i)));
+        }
+        views = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        nicknames = new HashMap<>();
+        content.forEach(view -> nicknames.put(view.getAuthorId(), "user" + view.getAuthorId()));
+        response = ApiResponse.success("목록 조회 성공", mapPage());
+    }
+
+    @Benchmark
+    public Page<PostListResponse> mapPage() {
+        return views.map(view -> PostService.toListResponse(view, nicknames.get(view.getAuthorId()), 3L));
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    // 에러 응답은 data가 없어 직렬화가 가장 짧은 경로 (목록 응답과의 고정 비용 비교용)
+    @Benchmark
+    public byte[] serializeError() {
+        return jsonMapper.writeValueAsBytes(ApiResponse.error("게시글을 찾을 수 없습니다."));
+    }
+
+    private record SummaryView(Long id, String title, Long authorId, Long viewCount, LocalDateTime createdAt)
+            implements PostSummaryView {
+        @Override public Long getId() { return id; }
+        @Override public String getTitle() { return title; }
+        @Override public Long getAuthorId() { return authorId; }
+        @Override public Long getViewCount() { return viewCount; }
+        @Override public LocalDateTime getCreatedAt() { return createdAt; }
+    }
+}
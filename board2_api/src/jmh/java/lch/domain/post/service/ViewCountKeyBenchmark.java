@@ -0,0 +1,43 @@
+package lch.domain.post.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 로컬 버퍼를 DB에 반영할 때 조회수 키(post:view:count:{id})마다 수행하는 게시글 ID 파싱 비용
+// substring 버전은 비교 기준선 (replace는 키 전체를 훑어 새 문자열을 만듦)
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ViewCountKeyBenchmark {
+
+    private static final String PREFIX = "post:view:count:";
+
+    @Param({"7", "123456789012"})
+    private long postId;
+
+    private String key;
+
+    @Setup
+    public void setUp() {
+        key = PREFIX + postId;
+    }
+
+    @Benchmark
+    public Long toPostId() {
+        return ViewCountScheduler.toPostId(key);
+    }
+
+    @Benchmark
+    public Long substringBaseline() {
+        return Long.parseLong(key.substring(PREFIX.length()));
+    }
+}
@@ -0,0 +1,52 @@
+package lch.global.security;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import jakarta.servlet.http.Cookie;
+
+// OAuth2 로그인 시작/콜백마다 수행되는 인가 요청 쿠키의 직렬화(Java 직렬화 + Base64) 비용 측정
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CookieUtilsBenchmark {
+
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private Cookie serializedCookie;
+
+    @Setup
+    public void setUp() {
+        // 구글 로그인 시작 시 저장되는 요청과 같은 구성
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("1234567890-abcdefghijklmnopqrstuvwxyz.apps.googleusercontent.com")
+                .redirectUri("https://api.example.com/login/oauth2/code/google")
+                .scopes(Set.of("openid", "profile", "email"))
+                .state("Zm9vYmFyLXN0YXRlLXZhbHVlLWZvci1iZW5jaG1hcmstMDEyMzQ1Njc4OQ==")
+                .attributes(Map.of("registration_id", "google"))
+                .build();
+        serializedCookie = new Cookie(HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
+                CookieUtils.serialize(authorizationRequest));
+    }
+
+    @Benchmark
+    public String serialize() {
+        return CookieUtils.serialize(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest deserialize() {
+        return CookieUtils.deserialize(serializedCookie, OAuth2AuthorizationRequest.class);
+    }
+}
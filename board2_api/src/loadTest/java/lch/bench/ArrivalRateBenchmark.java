@@ -0,0 +1,368 @@
+package lch.bench;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * 고정 도착률(open model) 부하 생성기: 응답 속도와 관계없이 초당 rate건의 요청을 일정한 간격으로 시작
+ * 응답이 늦어져도 다음 요청을 미루지 않으므로, 지연 시간은 "예정된 시작 시각"부터 측정하여 서버가 밀릴 때의
+ * 대기 시간까지 포함 (closed loop인 ThreadModeBenchmark와 달리 coordinated omission이 없음)
+ *
+ * 요청 구성(MIX, 기본 list=60,detail=30,search=7,create=3)
+ * - list:   GET /posts (앞쪽 5페이지에 몰림)
+ * - detail: GET /posts/{id} (80%는 최신 1% 게시글, 20%는 전체 구간에서 균등 선택)
+ * - search: GET /posts/search (DataSeeder와 같은 단어 목록에서 검색어 선택)
+ * - create: POST /posts (multipart, 첨부 없음)
+ * 여러 시드 계정(LOGIN_USERS명)으로 로그인하여 사용자별 캐시/검색 기록이 한 키에 몰리지 않도록 함
+ *
+ * 결과: 엔드포인트별 처리량과 p50/p90/p99/p99.9 지연을 출력하고 REPORT_FILE(기본 build/loadtest/report.json)에 JSON으로 저장
+ * 동시 진행 요청이 MAX_INFLIGHT를 넘으면 요청을 보내지 않고 dropped로 집계 (부하 생성기 자체의 폭주 방지)
+ *
+ * 사용: ./gradlew arrivalRateTest --args="http://localhost:8080 300 120 20"  (기준 URL, 초당 요청 수, 측정 초, 워밍업 초)
+ */
+
+public class ArrivalRateBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"data\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern POST_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private enum Endpoint {
+        LIST("GET /posts"), DETAIL("GET /posts/{id}"), SEARCH("GET /posts/search"), CREATE("POST /posts");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final String baseUrl;
+    private final Map<Endpoint, Integer> mix;
+    private final int maxInflight = Integer.parseInt(env("MAX_INFLIGHT", "2000"));
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private List<String> tokens;
+    private long firstPostId;
+    private long lastPostId;
+    private List<Long> sampledPostIds = List.of();
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        double rate = args.length > 1 ? Double.parseDouble(args[1]) : 200;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int warmUpSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 15;
+
+        ArrivalRateBenchmark benchmark = new ArrivalRateBenchmark(baseUrl, parseMix(env("MIX", "list=60,detail=30,search=7,create=3")));
+        benchmark.prepare();
+
+        benchmark.run(rate, warmUpSeconds);
+        Map<Endpoint, Recorder> result = benchmark.run(rate, durationSeconds);
+        report(result, rate, durationSeconds);
+    }
+
+    private ArrivalRateBenchmark(String baseUrl, Map<Endpoint, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+    }
+
+    private void prepare() throws Exception {
+        Path seedFile = Path.of(env("SEED_FILE", "build/loadtest/seed.properties"));
+        int seedUsers = 0;
+        if (Files.exists(seedFile)) {
+            Properties seed = new Properties();
+            try (Reader reader = Files.newBufferedReader(seedFile)) {
+                seed.load(reader);
+            }
+            firstPostId = Long.parseLong(seed.getProperty("firstPostId"));
+            lastPostId = Long.parseLong(seed.getProperty("lastPostId"));
+            seedUsers = Integer.parseInt(seed.getProperty("seedUsers"));
+        }
+
+        String password = env("BENCH_PASSWORD", "bench1234");
+        int loginUsers = Math.min(Integer.parseInt(env("LOGIN_USERS", "20")), seedUsers);
+        tokens = new ArrayList<>();
+        tokens.add(login(env("BENCH_USER_ID", "bench"), password));
+        for (int i = 1; i < loginUsers; i++) {
+            tokens.add(login("seed" + i, password));
+        }
+
+        // 시드 파일이 없으면 첫 페이지의 게시글만 상세 조회 대상으로 사용
+        if (lastPostId == 0) {
+            sampledPostIds = samplePostIds();
+            if (sampledPostIds.isEmpty()) {
+                throw new IllegalStateException("상세 조회에 사용할 게시글이 없습니다. ./gradlew seedData를 먼저 실행하세요.");
+            }
+        }
+    }
+
+    private Map<Endpoint, Recorder> run(double rate, int durationSeconds) {
+        Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder());
+        }
+
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long deadline = start + Duration.ofSeconds(durationSeconds).toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                if (scheduledAt >= deadline) {
+                    break;
+                }
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Endpoint endpoint = pick();
+                Recorder recorder = recorders.get(endpoint);
+                if (inflight.get() >= maxInflight) {
+                    recorder.drop();
+                    continue;
+                }
+                inflight.incrementAndGet();
+                workers.submit(() -> {
+                    try {
+                        HttpResponse<Void> response = client.send(request(endpoint), HttpResponse.BodyHandlers.discarding());
+                        recorder.record(System.nanoTime() - scheduledAt, response.statusCode());
+                    } catch (Exception e) {
+                        recorder.record(System.nanoTime() - scheduledAt, -1);
+                    } finally {
+                        inflight.decrementAndGet();
+                    }
+                });
+            }
+        }
+        return recorders;
+    }
+
+    private Endpoint pick() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int r = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            r -= entry.getValue();
+            if (r < 0) {
+                return entry.getKey();
+            }
+        }
+        return Endpoint.LIST;
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = tokens.get(random.nextInt(tokens.size()));
+        return switch (endpoint) {
+            case LIST -> get("/posts?page=" + random.nextInt(5) + "&size=20", token);
+            case DETAIL -> get("/posts/" + pickPostId(random), token);
+            case SEARCH -> get("/posts/search?keyword="
+                    + URLEncoder.encode(DataSeeder.WORDS[random.nextInt(DataSeeder.WORDS.length)], StandardCharsets.UTF_8)
+                    + "&page=0&size=10", token);
+            case CREATE -> createPost(token, random);
+        };
+    }
+
+    private long pickPostId(ThreadLocalRandom random) {
+        if (lastPostId == 0) {
+            return sampledPostIds.get(random.nextInt(sampledPostIds.size()));
+        }
+        long span = lastPostId - firstPostId + 1;
+        if (random.nextInt(100) < 80) {
+            long hot = Math.max(1, span / 100);
+            return lastPostId - random.nextLong(hot);
+        }
+        return firstPostId + random.nextLong(span);
+    }
+
+    private HttpRequest createPost(String token, ThreadLocalRandom random) {
+        String boundary = "----bench" + random.nextLong(Long.MAX_VALUE);
+        String json = "{\"title\":\"부하 테스트 " + random.nextInt(1_000_000) + "\",\"content\":\"고정 도착률 부하 테스트에서 작성한 게시글입니다.\"}";
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"request\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + json + "\r\n"
+                + "--" + boundary + "--\r\n";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/posts"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private String login(String userId, String password) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"userId\":\"" + userId + "\",\"password\":\"" + password + "\"}"))
+                .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+
+        Matcher matcher = TOKEN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("로그인 실패(" + userId + "): " + body);
+        }
+        return matcher.group(1);
+    }
+
+    private List<Long> samplePostIds() throws IOException, InterruptedException {
+        String body = client.send(get("/posts?page=0&size=50", tokens.get(0)), HttpResponse.BodyHandlers.ofString()).body();
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = POST_ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            mix.put(Endpoint.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+
+    private static void report(Map<Endpoint, Recorder> result, double rate, int durationSeconds) throws IOException {
+        System.out.printf("target rate=%.1f req/s duration=%ds%n", rate, durationSeconds);
+        System.out.printf("%-18s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "dropped", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\"targetRate\":").append(rate).append(",\"durationSeconds\":").append(durationSeconds)
+                .append(",\"endpoints\":[");
+        boolean first = true;
+        for (Map.Entry<Endpoint, Recorder> entry : result.entrySet()) {
+            Recorder recorder = entry.getValue();
+            if (recorder.requests() == 0 && recorder.dropped == 0) {
+                continue;
+            }
+            long[] sorted = recorder.sortedSuccessLatencies();
+            double throughput = (double) sorted.length / durationSeconds;
+            double p50 = percentile(sorted, 0.50);
+            double p90 = percentile(sorted, 0.90);
+            double p99 = percentile(sorted, 0.99);
+            double p999 = percentile(sorted, 0.999);
+            double max = sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0;
+
+            System.out.printf("%-18s %9d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey().label,
+                    recorder.requests(), recorder.errors(), recorder.dropped, throughput, p50, p90, p99, p999, max);
+            if (!recorder.errorStatuses.isEmpty()) {
+                System.out.printf("%-18s errors by status: %s%n", "", recorder.errorStatuses);
+            }
+
+            json.append(first ? "" : ",")
+                    .append("{\"endpoint\":\"").append(entry.getKey().label).append('"')
+                    .append(",\"requests\":").append(recorder.requests())
+                    .append(",\"errors\":").append(recorder.errors())
+                    .append(",\"dropped\":").append(recorder.dropped)
+                    .append(",\"throughput\":").append(format(throughput))
+                    .append(",\"p50Ms\":").append(format(p50))
+                    .append(",\"p90Ms\":").append(format(p90))
+                    .append(",\"p99Ms\":").append(format(p99))
+                    .append(",\"p999Ms\":").append(format(p999))
+                    .append(",\"maxMs\":").append(format(max))
+                    .append('}');
+            first = false;
+        }
+        json.append("]}");
+
+        Path reportFile = Path.of(env("REPORT_FILE", "build/loadtest/report.json"));
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, json);
+        System.out.println("report -> " + reportFile);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static String env(String name, String defaultValue) {
+        return System.getenv().getOrDefault(name, defaultValue);
+    }
+
+    // 엔드포인트별 지연 시간 기록 (가상 스레드 여러 개가 동시에 기록하므로 동기화)
+    private static class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Integer> errorStatuses = new TreeMap<>();
+        private volatile long dropped;
+
+        synchronized void record(long nanos, int status) {
+            if (status < 0 || status >= 400) {
+                errorStatuses.merge(status, 1, Integer::sum);
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        // 스케줄러 스레드에서만 호출
+        void drop() {
+            dropped++;
+        }
+
+        synchronized long errors() {
+            return errorStatuses.values().stream().mapToLong(Integer::longValue).sum();
+        }
+
+        synchronized long requests() {
+            return count + errors();
+        }
+
+        synchronized long[] sortedSuccessLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package lch.bench;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/*
+ * 부하 테스트용 데이터셋 생성기 (기본: 사용자 1천 명, 게시글 100만 건, 댓글 1천만 건)
+ * 애플리케이션이 Flyway로 스키마를 만든 뒤 실행하며, 측정용 계정(BENCH_USER_ID)은 API로 가입시키고
+ * 나머지 행은 JDBC 배치(rewriteBatchedStatements)로 직접 INSERT (스레드마다 PK 구간을 나누어 병렬 처리)
+ *
+ * - 게시글/댓글 PK는 id_generators에서 필요한 구간을 한 번에 예약하므로 실행 중인 애플리케이션의 할당과 겹치지 않음
+ * - 시드 사용자는 측정용 계정과 같은 비밀번호 해시를 사용 (seed1 ~ seedN으로 로그인 가능)
+ * - 게시글 작성 시각은 최근 SEED_DAYS일에 고르게 분포 (보관 기준 180일보다 짧게 두어 이관되지 않도록)
+ * - 댓글과 조회수는 최신 게시글에 몰리도록 치우치게 분포
+ * - 이미 목표 건수 이상의 게시글이 있으면 INSERT 없이 구간 정보만 다시 기록
+ *
+ * 결과(게시글 ID 구간, 시드 사용자 수)는 SEED_FILE(기본 build/loadtest/seed.properties)에 기록되어 ArrivalRateBenchmark가 사용
+ *
+ * 사용: ./gradlew seedData (설정은 환경 변수, scripts/e2e-load-test.sh 참고)
+ */
+
+public class DataSeeder {
+
+    // 제목/본문 단어 (검색 부하가 실제 일치 결과를 갖도록 ArrivalRateBenchmark의 검색어와 같은 목록 사용)
+    static final String[] WORDS = {
+            "spring", "java", "redis", "mysql", "docker", "kotlin", "react", "cache", "index", "query",
+            "성능", "후기", "질문", "공유", "개발", "배포", "장애", "튜닝", "리뷰", "추천",
+            "서버", "데이터", "테스트", "설계", "구조", "모니터링", "트래픽", "최적화", "면접", "스터디"
+    };
+
+    private static final int BATCH_SIZE = 2_000;
+
+    private final String dbUrl = env("SEED_DB_URL",
+            "jdbc:mysql://localhost:3306/board2?rewriteBatchedStatements=true&useSSL=false&allowPublicKeyRetrieval=true");
+    private final String dbUser = env("SEED_DB_USER", "board2");
+    private final String dbPassword = env("SEED_DB_PASSWORD", "board2");
+    private final int users = Integer.parseInt(env("SEED_USERS", "1000"));
+    private final int posts = Integer.parseInt(env("SEED_POSTS", "1000000"));
+    private final long comments = Long.parseLong(env("SEED_COMMENTS", "10000000"));
+    private final int days = Integer.parseInt(env("SEED_DAYS", "150"));
+    private final int threads = Integer.parseInt(env("SEED_THREADS", "8"));
+    private final Path seedFile = Path.of(env("SEED_FILE", "build/loadtest/seed.properties"));
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        new DataSeeder().run(baseUrl);
+    }
+
+    private void run(String baseUrl) throws Exception {
+        String benchUserId = env("BENCH_USER_ID", "bench");
+        String benchPassword = env("BENCH_PASSWORD", "bench1234");
+        register(baseUrl, benchUserId, benchPassword);
+
+        try (Connection connection = connect()) {
+            long[] existing = postRange(connection);
+            if (existing[2] >= posts) {
+                System.out.printf("게시글 %d건이 이미 있어 생성을 건너뜁니다.%n", existing[2]);
+                writeSeedFile(existing[0], existing[1], countSeedUsers(connection));
+                return;
+            }
+
+            long started = System.nanoTime();
+            String passwordHash = passwordHash(connection, benchUserId);
+            long[] authorIds = insertUsers(connection, passwordHash);
+            long firstPostId = reserve(connection, "posts", posts);
+            long firstCommentId = reserve(connection, "comments", comments);
+            LocalDateTime now = LocalDateTime.now();
+
+            log(started, "사용자 %d명", authorIds.length);
+            parallel(posts, (from, to) -> insertPosts(firstPostId, from, to, authorIds, now));
+            log(started, "게시글 %d건", posts);
+
+            AtomicIntegerArray commentCounts = new AtomicIntegerArray(posts);
+            parallel(comments, (from, to) -> insertComments(firstCommentId, firstPostId, from, to, authorIds, now, commentCounts));
+            log(started, "댓글 %d건", comments);
+
+            parallel(posts, (from, to) -> insertStats(firstPostId, from, to, commentCounts));
+            log(started, "게시글 통계 %d건", posts);
+
+            writeSeedFile(firstPostId, firstPostId + posts - 1, authorIds.length);
+        }
+    }
+
+    // 측정용 계정 가입 (이미 있으면 409로 무시)
+    private void register(String baseUrl, String userId, String password) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userId\":\"" + userId + "\",\"email\":\"" + userId
+                        + "@loadtest.local\",\"password\":\"" + password + "\",\"nickname\":\"" + userId + "\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400 && response.statusCode() != 409) {
+            throw new IllegalStateException("측정용 계정 가입 실패: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private String passwordHash(Connection connection, String userId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT password FROM users WHERE user_id = ?")) {
+            statement.setString(1, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("측정용 계정이 없습니다: " + userId);
+                }
+                return rs.getString(1);
+            }
+        }
+    }
+
+    // 시드 사용자 생성 후 ID 목록 반환 (재실행 시 이미 있는 계정은 건너뜀)
+    private long[] insertUsers(Connection connection, String passwordHash) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT IGNORE INTO users (user_id, email, password, nickname, provider, role) "
+                        + "VALUES (?, ?, ?, ?, 'LOCAL', 'ROLE_USER')")) {
+            for (int i = 1; i <= users; i++) {
+                statement.setString(1, "seed" + i);
+                statement.setString(2, "seed" + i + "@loadtest.local");
+                statement.setString(3, passwordHash);
+                statement.setString(4, "seed" + i);
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM users WHERE email LIKE 'seed%@loadtest.local'")) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // id_generators에서 count개의 PK 구간을 예약하고 시작값 반환 (애플리케이션의 pooled-lo 할당과 같은 방식)
+    private long reserve(Connection connection, String sequence, long count) throws SQLException {
+        connection.setAutoCommit(false);
+        long start;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT next_val FROM id_generators WHERE sequence_name = ? FOR UPDATE")) {
+            select.setString(1, sequence);
+            try (ResultSet rs = select.executeQuery()) {
+                rs.next();
+                start = rs.getLong(1);
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE id_generators SET next_val = ? WHERE sequence_name = ?")) {
+            update.setLong(1, start + count);
+            update.setString(2, sequence);
+            update.executeUpdate();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        return start;
+    }
+
+    // 게시글 인덱스 i(0부터)의 작성 시각: 인덱스가 클수록(ID가 클수록) 최신
+    private LocalDateTime createdAt(LocalDateTime now, long index) {
+        long spanSeconds = Duration.ofDays(days).toSeconds();
+        return now.minusSeconds(spanSeconds - spanSeconds * index / posts);
+    }
+
+    private void insertPosts(long firstPostId, long from, long to, long[] authorIds, LocalDateTime now) throws SQLException {
+        SplittableRandom random = new SplittableRandom(from);
+        try (Connection connection = bulkConnection();
+             PreparedStatement post = connection.prepareStatement(
+                     "INSERT INTO posts (id, author_id, title, created_at, updated_at) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement body = connection.prepareStatement(
+                     "INSERT INTO post_bodies (post_id, encoding, content) VALUES (?, 'NONE', ?)")) {
+            for (long i = from; i < to; i++) {
+                long id = firstPostId + i;
+                Timestamp created = Timestamp.valueOf(createdAt(now, i));
+                post.setLong(1, id);
+                post.setLong(2, authorIds[random.nextInt(authorIds.length)]);
+                post.setString(3, sentence(random, 3 + random.nextInt(6)));
+                post.setTimestamp(4, created);
+                post.setTimestamp(5, created);
+                post.addBatch();
+
+                // 본문은 압축 임계값(2KB)보다 짧게 두어 NONE 인코딩으로 저장
+                body.setLong(1, id);
+                body.setBytes(2, sentence(random, 20 + random.nextInt(150)).getBytes(StandardCharsets.UTF_8));
+                body.addBatch();
+
+                if ((i - from + 1) % BATCH_SIZE == 0) {
+                    post.executeBatch();
+                    body.executeBatch();
+                    connection.commit();
+                }
+            }
+            post.executeBatch();
+            body.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void insertComments(long firstCommentId, long firstPostId, long from, long to, long[] authorIds,
+                                LocalDateTime now, AtomicIntegerArray commentCounts) throws SQLException {
+        SplittableRandom random = new SplittableRandom(from);
+        try (Connection connection = bulkConnection();
+             PreparedStatement comment = connection.prepareStatement(
+                     "INSERT INTO comments (id, post_id, path, author_id, content, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long i = from; i < to; i++) {
+                int postIndex = skewedPostIndex(random);
+                // 모두 최상위 댓글로 생성, 게시글별 카운터 값을 스레드 순번(경로)으로 사용
+                int threadSeq = commentCounts.incrementAndGet(postIndex);
+
+                LocalDateTime postCreated = createdAt(now, postIndex);
+                long maxDelaySeconds = Math.max(1, Math.min(Duration.ofDays(1).toSeconds(),
+                        Duration.between(postCreated, now).toSeconds()));
+
+                comment.setLong(1, firstCommentId + i);
+                comment.setLong(2, firstPostId + postIndex);
+                comment.setString(3, String.format("%08d/", threadSeq));
+                comment.setLong(4, authorIds[random.nextInt(authorIds.length)]);
+                comment.setString(5, sentence(random, 3 + random.nextInt(20)));
+                comment.setTimestamp(6, Timestamp.valueOf(postCreated.plusSeconds(random.nextLong(maxDelaySeconds))));
+                comment.addBatch();
+
+                if ((i - from + 1) % BATCH_SIZE == 0) {
+                    comment.executeBatch();
+                    connection.commit();
+                }
+            }
+            comment.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void insertStats(long firstPostId, long from, long to, AtomicIntegerArray commentCounts) throws SQLException {
+        SplittableRandom random = new SplittableRandom(from);
+        try (Connection connection = bulkConnection();
+             PreparedStatement stats = connection.prepareStatement(
+                     "INSERT INTO post_stats (post_id, view_count, comment_count, attachment_count, thread_seq) "
+                             + "VALUES (?, ?, ?, 0, ?)")) {
+            for (long i = from; i < to; i++) {
+                int commentCount = commentCounts.get((int) i);
+                stats.setLong(1, firstPostId + i);
+                stats.setLong(2, commentCount * 10L + random.nextInt(50));
+                stats.setInt(3, commentCount);
+                stats.setInt(4, commentCount);
+                stats.addBatch();
+
+                if ((i - from + 1) % BATCH_SIZE == 0) {
+                    stats.executeBatch();
+                    connection.commit();
+                }
+            }
+            stats.executeBatch();
+            connection.commit();
+        }
+    }
+
+    // 최신 게시글일수록 자주 선택 (r^3 분포: 최신 10% 게시글이 전체의 약 46%를 차지)
+    private int skewedPostIndex(SplittableRandom random) {
+        double r = random.nextDouble();
+        return posts - 1 - (int) (posts * r * r * r);
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private long[] postRange(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MIN(id), 0), COALESCE(MAX(id), 0), COUNT(*) FROM posts")) {
+            rs.next();
+            return new long[] {rs.getLong(1), rs.getLong(2), rs.getLong(3)};
+        }
+    }
+
+    private int countSeedUsers(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users WHERE email LIKE 'seed%@loadtest.local'")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private void writeSeedFile(long firstPostId, long lastPostId, int seedUsers) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("firstPostId", String.valueOf(firstPostId));
+        properties.setProperty("lastPostId", String.valueOf(lastPostId));
+        properties.setProperty("seedUsers", String.valueOf(seedUsers));
+        Files.createDirectories(seedFile.toAbsolutePath().getParent());
+        try (var writer = Files.newBufferedWriter(seedFile)) {
+            properties.store(writer, "DataSeeder");
+        }
+        System.out.printf("게시글 ID %d ~ %d, 시드 사용자 %d명 -> %s%n", firstPostId, lastPostId, seedUsers, seedFile);
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(dbUrl, dbUser, dbPassword);
+    }
+
+    // 대량 INSERT 전용 커넥션: 배치마다 직접 커밋하고, FK/유니크 검사는 생성 순서를 보장하므로 생략
+    private Connection bulkConnection() throws SQLException {
+        Connection connection = connect();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET foreign_key_checks = 0, unique_checks = 0");
+        }
+        return connection;
+    }
+
+    // [0, total) 구간을 스레드 수만큼 나누어 병렬 실행
+    private void parallel(long total, RangeTask task) throws Exception {
+        long chunk = (total + threads - 1) / threads;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long from = 0; from < total; from += chunk) {
+                long start = from;
+                long end = Math.min(total, from + chunk);
+                futures.add(executor.submit(() -> {
+                    task.run(start, end);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static void log(long startedNanos, String format, Object... args) {
+        System.out.printf("[%4ds] %s 생성 완료%n", Duration.ofNanos(System.nanoTime() - startedNanos).toSeconds(),
+                String.format(format, args));
+    }
+
+    private static String env(String name, String defaultValue) {
+        return System.getenv().getOrDefault(name, defaultValue);
+    }
+
+    @FunctionalInterface
+    private interface RangeTask {
+        void run(long from, long to) throws Exception;
+    }
+}
@@ -0,0 +1,165 @@
+package lch.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * 게시글 목록/상세 API 부하 생성기 (플랫폼 스레드 모드와 가상 스레드 모드의 처리량 비교용)
+ * concurrency개의 가상 스레드가 duration초 동안 쉬지 않고 요청을 보내며(closed loop),
+ * 목록(GET /posts) 80%, 상세(GET /posts/{id}) 20% 비율로 호출한 뒤 처리량과 지연 시간 분포를 출력
+ *
+ * 사용: ./gradlew loadTest --args="http://localhost:8080 400 30"
+ * 환경 변수 BENCH_USER_ID, BENCH_PASSWORD로 로그인한 토큰을 사용 (scripts/bench-thread-modes.sh 참고)
+ */
+
+public class ThreadModeBenchmark {
+
+    private static final Pattern TOKEN = Pattern.compile("\"data\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern POST_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        String token = login(client, baseUrl);
+        List<Long> postIds = samplePostIds(client, baseUrl, token);
+        if (postIds.isEmpty()) {
+            throw new IllegalStateException("상세 조회에 사용할 게시글이 없습니다. 게시글을 먼저 생성하세요.");
+        }
+
+        // 워밍업 (JIT, 커넥션 풀, 캐시)
+        run(client, baseUrl, token, postIds, concurrency, Math.min(10, durationSeconds));
+
+        Result result = run(client, baseUrl, token, postIds, concurrency, durationSeconds);
+        result.print(concurrency, durationSeconds);
+    }
+
+    private static Result run(HttpClient client, String baseUrl, String token, List<Long> postIds,
+                              int concurrency, int durationSeconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    Result local = new Result();
+                    while (System.nanoTime() < deadline) {
+                        String path = ThreadLocalRandom.current().nextInt(100) < 80
+                                ? "/posts?page=" + ThreadLocalRandom.current().nextInt(5) + "&size=20"
+                                : "/posts/" + postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(get(baseUrl + path, token),
+                                    HttpResponse.BodyHandlers.discarding());
+                            local.record(System.nanoTime() - start, response.statusCode() < 400);
+                        } catch (Exception e) {
+                            local.record(System.nanoTime() - start, false);
+                        }
+                    }
+                    return local;
+                }));
+            }
+
+            Result total = new Result();
+            for (Future<Result> future : futures) {
+                total.merge(future.get());
+            }
+            return total;
+        }
+    }
+
+    private static String login(HttpClient client, String baseUrl) throws Exception {
+        String userId = System.getenv().getOrDefault("BENCH_USER_ID", "bench");
+        String password = System.getenv().getOrDefault("BENCH_PASSWORD", "bench1234");
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"userId\":\"" + userId + "\",\"password\":\"" + password + "\"}"))
+                .build();
+        String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+
+        Matcher matcher = TOKEN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("로그인 실패: " + body);
+        }
+        return matcher.group(1);
+    }
+
+    private static List<Long> samplePostIds(HttpClient client, String baseUrl, String token) throws Exception {
+        String body = client.send(get(baseUrl + "/posts?page=0&size=50", token), HttpResponse.BodyHandlers.ofString()).body();
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = POST_ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static class Result {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long nanos, boolean success) {
+            if (!success) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Result other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        void print(int concurrency, int durationSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("concurrency=%d duration=%ds requests=%d errors=%d throughput=%.1f req/s%n",
+                    concurrency, durationSeconds, count, errors, (double) count / durationSeconds);
+            System.out.printf("latency p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
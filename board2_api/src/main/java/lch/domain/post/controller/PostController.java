@@ -1,10 +1,15 @@
 package lch.domain.post.controller;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -18,21 +23,27 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import lch.domain.post.dto.CommentPageResponse;
 import lch.domain.post.dto.CommentRequest;
 import lch.domain.post.dto.PostCreateRequest;
 import lch.domain.post.dto.PostListResponse;
 import lch.domain.post.dto.PostResponse;
 import lch.domain.post.dto.PostUpdateRequest;
 import lch.domain.post.dto.SearchHistoryResponse;
+import lch.domain.post.service.ContentVersionService;
+import lch.domain.post.service.PostJsonCache;
 import lch.domain.post.service.PostService;
 import lch.domain.post.service.SearchService;
 import lch.global.error.ApiResponse;
+import lch.global.infra.ReplicationRoutingDataSource;
 import lch.global.security.LoginUser;
 
 @Tag(name = "게시판 API", description = "게시글 CRUD, 목록 조회 및 검색 API")
@@ -40,13 +51,24 @@ import lch.global.security.LoginUser;
 @RequestMapping("/posts")
 public class PostController {
 
+    // 클라이언트가 응답을 보관하되 매번 검증값(ETag/Last-Modified)으로 재검증하도록 함
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final PostService postService;
     private final SearchService searchService;
+    private final ContentVersionService contentVersionService;
+    private final PostJsonCache postJsonCache;
+
+    @Value("${app.json-cache.enabled}")
+    private boolean jsonCacheEnabled;
 
     // 생성자 주입
-    public PostController(PostService postService, SearchService searchService) {
+    public PostController(PostService postService, SearchService searchService, ContentVersionService contentVersionService,
+                          PostJsonCache postJsonCache) {
         this.postService = postService;
         this.searchService = searchService;
+        this.contentVersionService = contentVersionService;
+        this.postJsonCache = postJsonCache;
     }
 
     @Operation(summary = "게시글 작성 (파일 첨부 포함)", description = "multipart/form-data 형식으로 JSON(request)과 파일 리스트(files)를 받습니다.")
@@ -71,10 +93,33 @@ public class PostController {
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostResponse>> getDetail(
             @Parameter(hidden = true) @LoginUser Long userId,
-            @PathVariable Long postId) {
-
-        PostResponse response = postService.getPost(postId, userId);
-        return ResponseEntity.ok(ApiResponse.success("조회 성공", response));
+            @PathVariable Long postId,
+            @Parameter(hidden = true) WebRequest webRequest,
+            @Parameter(hidden = true) HttpServletResponse servletResponse) throws IOException {
+
+        // 버전만 먼저 확인하여 클라이언트가 가진 응답이 최신이면 조회/직렬화 없이 304
+        ContentVersionService.Validator validator = contentVersionService.postValidator(postId);
+        if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            postService.countView(postId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+
+        // 버전 키가 없으면 게시글이 있음을 확인한 뒤에만 만듦 (이번 응답은 버전보다 먼저 읽은 내용이므로 검증값 없이 응답)
+        if (validator == null) {
+            PostResponse response = postService.getPost(postId, userId);
+            contentVersionService.initPostValidator(postId);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(ApiResponse.success("조회 성공", response));
+        }
+
+        // 같은 버전의 응답은 미리 직렬화한 바이트를 그대로 출력 (null 반환 시 MVC는 응답을 처리된 것으로 봄)
+        if (jsonCacheEnabled) {
+            servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+            postJsonCache.writeDetail(postId, validator.etag(), () -> postService.getPostSnapshot(postId), servletResponse);
+            return null;
+        }
+
+        PostResponse response = readAtLeast(validator, () -> postService.getPost(postId, userId));
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(ApiResponse.success("조회 성공", response));
     }
 
     @Operation(summary = "게시글 삭제", description = "작성자 본인만 게시글을 삭제할 수 있습니다.")
@@ -91,13 +136,30 @@ public class PostController {
     @GetMapping
     public ResponseEntity<ApiResponse<Page<PostListResponse>>> getList(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) WebRequest webRequest,
+            @Parameter(hidden = true) HttpServletResponse servletResponse) throws IOException {
+
+        // 목록 버전은 페이지와 무관하게 하나이므로 page/size가 다른 요청은 URL로 구분됨
+        ContentVersionService.Validator validator = contentVersionService.listValidator();
+        if (validator != null && webRequest.checkNotModified(validator.etag(), validator.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
 
         // 작성일(createdAt) 기준 내림차순(DESC) 정렬 객체 생성
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-        Page<PostListResponse> response = postService.getPostList(pageRequest);
-        return ResponseEntity.ok(ApiResponse.success("목록 조회 성공", response));
+        if (jsonCacheEnabled && validator != null) {
+            servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+            postJsonCache.writeList(page, size, validator.etag(),
+                    () -> postService.getPostListSnapshot(pageRequest), servletResponse);
+            return null;
+        }
+
+        Page<PostListResponse> response = validator != null
+                ? readAtLeast(validator, () -> postService.getPostList(pageRequest))
+                : postService.getPostList(pageRequest);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(ApiResponse.success("목록 조회 성공", response));
     }
 
     @Operation(summary = "게시글 수정", description = "작성자 본인만 게시글의 제목, 내용 및 첨부파일을 수정할 수 있습니다.")
@@ -125,19 +187,41 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success("검색 기록 조회 성공", response));
     }
 
-    @Operation(summary = "댓글 작성", description = "특정 게시글에 댓글을 작성합니다.")
+    @Operation(summary = "댓글 작성", description = "특정 게시글에 댓글을 작성합니다. parentId를 지정하면 해당 댓글의 답글로 작성합니다.")
     @PostMapping("/{postId}/comments")
     public ResponseEntity<ApiResponse<Long>> createComment(
             @Parameter(hidden = true) @LoginUser Long userId,
             @PathVariable Long postId,
             @Valid @RequestBody CommentRequest request) {
 
-        Long commentId = postService.createComment(postId, userId, request.content());
+        Long commentId = postService.createComment(postId, userId, request.content(), request.parentId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("댓글이 작성되었습니다.", commentId));
     }
 
-    @Operation(summary = "댓글 삭제", description = "작성자 본인만 댓글을 삭제할 수 있습니다.")
+    @Operation(summary = "댓글 목록 조회", description = "게시글의 댓글을 답글을 포함한 트리 순서로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/{postId}/comments")
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+
+        CommentPageResponse response = postService.getComments(postId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("댓글 조회 성공", response));
+    }
+
+    @Operation(summary = "답글 스레드 조회", description = "댓글 하나의 하위 답글 전체를 트리 순서로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+
+        CommentPageResponse response = postService.getReplies(commentId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("답글 조회 성공", response));
+    }
+
+    @Operation(summary = "댓글 삭제", description = "작성자 본인만 댓글을 삭제할 수 있습니다. 답글이 달린 댓글은 삭제 표시만 남습니다.")
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<ApiResponse<Void>> deleteComment(
             @Parameter(hidden = true) @LoginUser Long userId,
@@ -161,4 +245,11 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success("검색 성공", response));
     }
 
-}
\ No newline at end of file
+    // 응답에 붙는 검증값(validator)보다 오래된 내용을 내보내지 않도록,
+    // 버전이 레플리카 지연 한도 안에서 바뀌었으면 Primary에서 읽음 (그 이전 변경은 레플리카에도 반영되어 있음)
+    private <T> T readAtLeast(ContentVersionService.Validator validator, Supplier<T> loader) {
+        return contentVersionService.isNewerThanReplicas(validator)
+                ? ReplicationRoutingDataSource.readFromPrimary(loader)
+                : loader.get();
+    }
+}
@@ -3,5 +3,7 @@ package lch.domain.post.dto;
 public record AttachmentResponse(
     Long id,
     String fileName,
-    String s3Key // 프론트엔드에서 S3 URL을 구성하거나 다운로드 API 호출 시 사용
-) {}
\ No newline at end of file
+    String s3Key, // 프론트엔드에서 S3 URL을 구성하거나 다운로드 API 호출 시 사용
+    String thumbnailUrl, // 목록/미리보기용 썸네일 (비동기 생성 전이거나 이미지가 아니면 null)
+    String webUrl // 상세 화면용 웹 최적화본 (비동기 생성 전이거나 이미지가 아니면 null)
+) {}
@@ -0,0 +1,10 @@
+package lch.domain.post.dto;
+
+import java.util.List;
+
+// 댓글 커서 페이지 (트리 순서), nextCursor를 다음 요청의 cursor로 전달 (마지막 페이지면 null)
+public record CommentPageResponse(
+    List<CommentResponse> comments,
+    String nextCursor,
+    boolean hasNext
+) {}
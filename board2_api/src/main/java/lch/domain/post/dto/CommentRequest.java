@@ -7,5 +7,8 @@ public record CommentRequest(
 
     @NotBlank(message = "댓글 내용은 필수입니다.")
     @Size(max = 500, message = "댓글은 500자 이내여야 합니다.")
-    String content
-) {}
\ No newline at end of file
+    String content,
+
+    // 답글을 달 댓글 ID (없으면 최상위 댓글)
+    Long parentId
+) {}
@@ -2,9 +2,15 @@ package lch.domain.post.dto;
 
 import java.time.LocalDateTime;
 
+// parentId/depth: 트리 위치 (최상위 댓글은 parentId null, depth 0), replyCount: 하위 답글 전체 수
+// deleted: 답글이 남아 삭제 표시만 된 댓글 (작성자와 내용은 비워서 전달)
 public record CommentResponse(
     Long id,
     String authorNickname,
     String content,
-    LocalDateTime createdAt
-) {}
\ No newline at end of file
+    LocalDateTime createdAt,
+    Long parentId,
+    int depth,
+    int replyCount,
+    boolean deleted
+) {}
@@ -0,0 +1,8 @@
+package lch.domain.post.dto;
+
+// 미리 직렬화해 둘 상세 응답과, 출력 시 실시간 조회수를 더해야 하는지 여부 (보관 게시글은 조회수가 고정되어 false)
+
+public record PostSnapshot(
+    PostResponse response,
+    boolean live
+) {}
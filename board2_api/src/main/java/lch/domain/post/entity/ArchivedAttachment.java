@@ -0,0 +1,56 @@
+package lch.domain.post.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// 보관 게시글의 첨부파일 엔티티 (읽기 전용, S3 객체는 이관하지 않고 키만 보관)
+
+@Entity
+@Immutable
+@Table(name = "archived_attachments")
+public class ArchivedAttachment {
+
+    @Id
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "s3_key", nullable = false, length = 500)
+    private String s3Key;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "thumbnail_s3_key", length = 500)
+    private String thumbnailS3Key;
+
+    @Column(name = "web_s3_key", length = 500)
+    private String webS3Key;
+
+    private LocalDateTime createdAt;
+
+    protected ArchivedAttachment() {}
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getPostId() { return postId; }
+    public String getS3Key() { return s3Key; }
+    public String getFileName() { return fileName; }
+    public Long getFileSize() { return fileSize; }
+    public String getContentType() { return contentType; }
+    public String getThumbnailS3Key() { return thumbnailS3Key; }
+    public String getWebS3Key() { return webS3Key; }
+}
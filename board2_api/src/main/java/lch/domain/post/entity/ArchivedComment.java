@@ -0,0 +1,67 @@
+package lch.domain.post.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lch.domain.user.entity.User;
+
+// 보관 게시글의 댓글 엔티티 (읽기 전용)
+
+@Entity
+@Immutable
+@Table(name = "archived_comments")
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 운영 테이블과 같은 트리 경로 (Comment 참고)
+    @Column(nullable = false, length = 255)
+    private String path;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(name = "reply_count", nullable = false)
+    private int replyCount;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    private LocalDateTime createdAt;
+
+    protected ArchivedComment() {}
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getPostId() { return postId; }
+    public Long getParentId() { return parentId; }
+    public String getPath() { return path; }
+    public int getDepth() { return depth; }
+    public int getReplyCount() { return replyCount; }
+    public boolean isDeleted() { return deletedAt != null; }
+    public User getAuthor() { return author; }
+    public String getContent() { return content; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,69 @@
+package lch.domain.post.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lch.domain.user.entity.User;
+
+/*
+ * 보관(archive) 계층으로 이관된 게시글 엔티티
+ * 행은 PostArchiveService의 INSERT ... SELECT로만 생성되며, 애플리케이션에서는 읽기 전용으로 사용
+ * 본문은 post_bodies와 같은 인코딩 그대로 옮겨 오므로 PostBodyCodec으로 해제
+ */
+
+@Entity
+@Immutable
+@Table(name = "archived_posts")
+public class ArchivedPost {
+
+    // 운영 테이블(posts)의 PK를 그대로 유지하여 기존 링크(/posts/{id})가 계속 동작
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "author_id", nullable = false)
+    private User author;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PostBodyEncoding encoding;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] content;
+
+    // 이관 시점에 확정된 조회수 (보관 게시글은 조회수를 더 이상 올리지 않음)
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime archivedAt;
+
+    protected ArchivedPost() {}
+
+    // Getters
+    public Long getId() { return id; }
+    public User getAuthor() { return author; }
+    public String getTitle() { return title; }
+    public PostBodyEncoding getEncoding() { return encoding; }
+    public byte[] getContent() { return content; }
+    public Long getViewCount() { return viewCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
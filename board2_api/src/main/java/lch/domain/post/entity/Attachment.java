@@ -1,9 +1,12 @@
 package lch.domain.post.entity;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -11,14 +14,23 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 
 // 파일 첨부 엔티티
 
 @Entity
 @Table(name = "attachments")
 public class Attachment {
+
+    // 썸네일/웹 최적화본을 생성할 수 있는(ImageIO로 디코딩 가능한) 이미지 타입
+    private static final Set<String> RESIZABLE_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/bmp");
+
+    // Post와 같은 id_generators 테이블 기반 PK 선할당 (배치 INSERT 대상)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "attachment_id_generator")
+    @TableGenerator(name = "attachment_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "attachments", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,15 +46,46 @@ public class Attachment {
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
 
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // 비동기 파이프라인이 생성한 파생본 경로 (생성 전에는 null)
+    @Column(name = "thumbnail_s3_key", length = 500)
+    private String thumbnailS3Key;
+
+    @Column(name = "web_s3_key", length = 500)
+    private String webS3Key;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "variant_status", nullable = false, length = 20)
+    private AttachmentVariantStatus variantStatus = AttachmentVariantStatus.NONE;
+
+    @Column(name = "variant_attempts", nullable = false)
+    private Integer variantAttempts = 0;
+
+    @Column(name = "variant_updated_at")
+    private LocalDateTime variantUpdatedAt;
+
     private LocalDateTime createdAt = LocalDateTime.now();
 
     protected Attachment() {}
 
-    public Attachment(Post post, String s3Key, String fileName, Long fileSize) {
+    public Attachment(Post post, String s3Key, String fileName, Long fileSize, String contentType) {
         this.post = post;
         this.s3Key = s3Key;
         this.fileName = fileName;
         this.fileSize = fileSize;
+        this.contentType = contentType;
+
+        // 이미지라면 파생본 생성 대기 상태로 저장 (실제 변환은 커밋 이후 워커 풀에서 수행)
+        if (contentType != null && RESIZABLE_CONTENT_TYPES.contains(contentType.toLowerCase())) {
+            this.variantStatus = AttachmentVariantStatus.PENDING;
+            this.variantUpdatedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean requiresVariants() {
+        return variantStatus == AttachmentVariantStatus.PENDING;
     }
 
     // Getters
@@ -50,5 +93,10 @@ public class Attachment {
     public String getS3Key() { return s3Key; }
     public String getFileName() { return fileName; }
     public Long getFileSize() { return fileSize; }
+    public String getContentType() { return contentType; }
+    public String getThumbnailS3Key() { return thumbnailS3Key; }
+    public String getWebS3Key() { return webS3Key; }
+    public AttachmentVariantStatus getVariantStatus() { return variantStatus; }
+    public Integer getVariantAttempts() { return variantAttempts; }
     public Post getPost() { return post; }
-}
\ No newline at end of file
+}
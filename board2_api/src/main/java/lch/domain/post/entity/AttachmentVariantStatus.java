@@ -0,0 +1,12 @@
+package lch.domain.post.entity;
+
+// 첨부파일 이미지 파생본(썸네일, 웹 최적화본) 생성 상태
+// attachments 테이블의 variant_status 컬럼이 그대로 작업 큐 역할을 함
+
+public enum AttachmentVariantStatus {
+    NONE,       // 이미지가 아니라서 파생본이 필요 없음
+    PENDING,    // 생성 대기 중
+    PROCESSING, // 워커가 선점하여 처리 중
+    READY,      // 생성 완료
+    FAILED      // 재시도 횟수 초과 또는 디코딩 불가
+}
@@ -1,6 +1,9 @@
 package lch.domain.post.entity;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,21 +14,58 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lch.domain.user.entity.User;
 
-// 댓글 엔티티
+/*
+ * 댓글 엔티티 (답글 포함 계층형)
+ * path: 루트부터 자신까지 형제 내 순번(8자리) + '/'를 이은 경로, 게시글 안에서 path 순이 스레드 트리 순서 (V8 마이그레이션 참고)
+ * 카운터(replyCount, childSeq)와 삭제 표시는 CommentRepository의 UPDATE 쿼리로만 갱신 (동시 답글 작성 시 덮어쓰기 방지)
+ */
 
 @Entity
 @Table(name = "comments")
 public class Comment {
+
+    // 경로 한 단계의 길이 (순번 8자리 + 구분자)
+    public static final int SEGMENT_LENGTH = 9;
+    // 모든 경로보다 큰 값 (게시글 전체 범위 조회의 상한)
+    public static final String PATH_END = "~";
+    private static final Pattern PATH_PATTERN = Pattern.compile("(\\d{8}/)+");
+
+    // Post와 같은 id_generators 테이블 기반 PK 선할당 (배치 INSERT 대상)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "comments", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Column(nullable = false, length = 255)
+    private String path;
+
+    @Column(nullable = false)
+    private int depth;
+
+    // 삭제되지 않은 하위 댓글 전체 수
+    @Column(name = "reply_count", nullable = false)
+    private int replyCount;
+
+    // 마지막으로 발급한 직계 답글 순번
+    @Column(name = "child_seq", nullable = false)
+    private int childSeq;
+
+    // 답글이 남아 있어 행을 지우지 않고 삭제 표시만 한 시각
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -37,14 +77,62 @@ public class Comment {
 
     protected Comment() {}
 
-    public Comment(Post post, User author, String content) {
+    // 최상위 댓글 (threadSeq: post_stats.thread_seq에서 발급한 순번)
+    public Comment(Post post, User author, String content, int threadSeq) {
         this.post = post;
         this.author = author;
         this.content = content;
+        this.path = segment(threadSeq);
+    }
+
+    // 답글 (replySeq: 부모의 child_seq에서 발급한 순번)
+    public Comment(Comment parent, User author, String content, int replySeq) {
+        this.post = parent.post;
+        this.author = author;
+        this.content = content;
+        this.parentId = parent.id;
+        this.path = parent.path + segment(replySeq);
+        this.depth = parent.depth + 1;
+    }
+
+    static String segment(int seq) {
+        return String.format("%08d/", seq);
+    }
+
+    // 하위 댓글 범위의 상한: 하위 경로는 모두 path로 시작하므로 마지막 '/'를 다음 문자('0')로 바꾼 값보다 작음
+    public static String subtreeEnd(String path) {
+        return path.substring(0, path.length() - 1) + "0";
+    }
+
+    // 커서 등 외부에서 받은 경로 형식 검증
+    public static boolean isValidPath(String path) {
+        return PATH_PATTERN.matcher(path).matches();
+    }
+
+    // 루트부터 부모까지 조상 댓글들의 경로 (답글 수 증감 대상)
+    public List<String> ancestorPaths() {
+        List<String> paths = new ArrayList<>(depth);
+        for (int end = SEGMENT_LENGTH; end < path.length(); end += SEGMENT_LENGTH) {
+            paths.add(path.substring(0, end));
+        }
+        return paths;
+    }
+
+    public String subtreeEnd() {
+        return subtreeEnd(path);
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
     }
 
     // Getters
     public Long getId() { return id; }
+    public Post getPost() { return post; }
+    public Long getParentId() { return parentId; }
+    public String getPath() { return path; }
+    public int getDepth() { return depth; }
+    public int getReplyCount() { return replyCount; }
     public User getAuthor() { return author; }
     public String getContent() { return content; }
     public LocalDateTime getCreatedAt() { return createdAt; }
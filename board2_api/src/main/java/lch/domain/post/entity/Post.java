@@ -14,14 +14,21 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lch.domain.user.entity.User;
 
 @Entity
 @Table(name = "posts")
 public class Post {
+    // IDENTITY 전략은 INSERT 후에야 PK를 알 수 있어 Hibernate가 배치 INSERT를 비활성화하므로,
+    // id_generators 테이블에서 PK 구간을 미리 할당받아(pooled-lo) 쓰기 지연 + JDBC 배치가 가능하도록 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+    @TableGenerator(name = "post_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "posts", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,10 +38,13 @@ public class Post {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    // 본문(content)은 목록 조회 시 버퍼 풀을 차지하지 않도록 post_bodies 테이블(PostBody)로 분리
 
-    private Long viewCount = 0L;
+    // 조회수 등 카운터는 post_stats 테이블(PostStats)에 저장하여 카운터 갱신이 이 행을 잠그지 않도록 함
+    // PK를 공유하므로 posts.id를 그대로 조인 컬럼으로 사용하며, 목록 조회에서는 EntityGraph로 함께 조회
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id", insertable = false, updatable = false)
+    private PostStats stats;
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -52,29 +62,22 @@ public class Post {
 
     protected Post() {} // JPA용 기본 생성자
 
-    public Post(User author, String title, String content) {
+    public Post(User author, String title) {
         this.author = author;
         this.title = title;
-        this.content = content;
     }
 
     // 게시글 수정 비즈니스 메서드 : 이 메서드가 호출되어 값이 바뀌면, Transaction 종료 시점에 자동으로 DB에 반영됨
-    public void update(String title, String content) {
+    // 본문은 PostBody에서 따로 갱신하지만, 수정 시간은 게시글 기준으로 관리
+    public void update(String title) {
         this.title = title;
-        this.content = content;
         this.updatedAt = LocalDateTime.now(); // 수정 시 시간 갱신
     }
 
-    // Redis의 누적 조회수를 DB에 더할 때 사용하는 비즈니스 메서드
-    public void addViewCount(Long count) {
-        this.viewCount += count;
-    }
-
     public Long getId() { return id; }
     public User getAuthor() { return author; }
     public String getTitle() { return title; }
-    public String getContent() { return content; }
-    public Long getViewCount() { return viewCount; }
+    public PostStats getStats() { return stats; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 
@@ -0,0 +1,70 @@
+package lch.domain.post.entity;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/*
+ * 게시글 본문 엔티티
+ * posts 행을 가볍게 유지하여 목록 스캔 시 한 InnoDB 페이지에 더 많은 행이 들어가도록 본문만 별도 테이블에 저장
+ * 본문은 상세 조회(getPost)와 수정 시에만 PK로 조회하며, 큰 본문은 압축된 바이트로 저장됨 (PostBodyCodec 참고)
+ */
+
+@Entity
+@Table(name = "post_bodies")
+public class PostBody implements Persistable<Long> {
+
+    // posts.id와 같은 값을 PK로 사용 (1:1)
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PostBodyEncoding encoding;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] content;
+
+    // PK를 직접 지정하므로 save() 시 merge(SELECT 후 INSERT)가 아닌 persist로 처리되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    protected PostBody() {}
+
+    public PostBody(Long postId, PostBodyEncoding encoding, byte[] content) {
+        this.postId = postId;
+        this.encoding = encoding;
+        this.content = content;
+    }
+
+    // 본문 수정 시 새로 인코딩된 값으로 교체
+    public void replace(PostBodyEncoding encoding, byte[] content) {
+        this.encoding = encoding;
+        this.content = content;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() { return postId; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public Long getPostId() { return postId; }
+    public PostBodyEncoding getEncoding() { return encoding; }
+    public byte[] getContent() { return content; }
+}
@@ -0,0 +1,8 @@
+package lch.domain.post.entity;
+
+// post_bodies.content 저장 형식
+
+public enum PostBodyEncoding {
+    NONE,   // UTF-8 바이트 그대로 저장
+    DEFLATE // MySQL COMPRESS() 호환 형식 (4바이트 원본 길이 + zlib 스트림), SQL에서 UNCOMPRESS()로 풀 수 있음
+}
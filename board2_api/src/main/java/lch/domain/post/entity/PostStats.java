@@ -0,0 +1,67 @@
+package lch.domain.post.entity;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+/*
+ * 게시글 카운터(조회수, 댓글 수, 첨부파일 수) 엔티티
+ * posts와 PK를 공유하는 1:1 테이블로, 카운터 갱신이 게시글 행(updated_at 포함)을 잠그거나 바꾸지 않도록 분리
+ * 값은 엔티티 필드를 바꾸지 않고 PostStatsRepository의 증감 쿼리로만 갱신 (동시 갱신 시 덮어쓰기 방지)
+ */
+
+@Entity
+@Table(name = "post_stats")
+public class PostStats implements Persistable<Long> {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount = 0L;
+
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
+
+    @Column(name = "attachment_count", nullable = false)
+    private Integer attachmentCount = 0;
+
+    // 마지막으로 발급한 최상위 댓글 순번 (댓글 경로의 첫 단계, Comment 참고)
+    @Column(name = "thread_seq", nullable = false)
+    private Integer threadSeq = 0;
+
+    // PostBody와 마찬가지로 PK를 직접 지정하므로 save() 시 SELECT 없이 persist 되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean isNew = true;
+
+    protected PostStats() {}
+
+    public PostStats(Long postId, int attachmentCount) {
+        this.postId = postId;
+        this.attachmentCount = attachmentCount;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() { return postId; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public Long getPostId() { return postId; }
+    public Long getViewCount() { return viewCount; }
+    public Integer getCommentCount() { return commentCount; }
+    public Integer getAttachmentCount() { return attachmentCount; }
+}
@@ -0,0 +1,19 @@
+package lch.domain.post.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import lch.domain.post.entity.ArchivedAttachment;
+
+public interface ArchivedAttachmentRepository extends JpaRepository<ArchivedAttachment, Long> {
+
+    List<ArchivedAttachment> findByPostId(Long postId);
+
+    // 보관 게시글 삭제 시 S3 실물 삭제용 키 조회
+    @Query("SELECT new lch.domain.post.repository.AttachmentKeys(a.s3Key, a.thumbnailS3Key, a.webS3Key) "
+            + "FROM ArchivedAttachment a WHERE a.postId = :postId")
+    List<AttachmentKeys> findKeysByPostId(@Param("postId") Long postId);
+}
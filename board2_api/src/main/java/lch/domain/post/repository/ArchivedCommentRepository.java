@@ -0,0 +1,24 @@
+package lch.domain.post.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import lch.domain.post.entity.ArchivedComment;
+
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    // 운영 댓글과 같은 트리 순서 (uk_archived_comment_post_path 범위 조회)
+    @EntityGraph(attributePaths = {"author"})
+    List<ArchivedComment> findByPostIdOrderByPathAsc(Long postId);
+
+    // CommentRepository.findPathRange와 같은 (after, before) 경로 구간 커서 조회
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT c FROM ArchivedComment c WHERE c.postId = :postId AND c.path > :after AND c.path < :before ORDER BY c.path")
+    List<ArchivedComment> findPathRange(@Param("postId") Long postId, @Param("after") String after,
+                                        @Param("before") String before, Limit limit);
+}
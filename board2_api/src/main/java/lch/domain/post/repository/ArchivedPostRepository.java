@@ -0,0 +1,71 @@
+package lch.domain.post.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import lch.domain.post.entity.ArchivedPost;
+
+public interface ArchivedPostRepository extends JpaRepository<ArchivedPost, Long> {
+
+    // 목록 조회: 운영 테이블(posts)의 결과 뒤에 이어 붙이므로 페이지 경계가 아닌 임의 offset으로 조회
+    @Query(value = "SELECT id, title, author_id AS authorId, view_count AS viewCount, created_at AS createdAt "
+            + "FROM archived_posts ORDER BY created_at DESC LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<PostSummaryView> findSummaries(@Param("offset") long offset, @Param("limit") int limit);
+
+    // 제목 또는 내용 검색 (PostRepository.searchByKeyword와 같은 조건, keyword는 이스케이프된 값)
+    @Query(value = "SELECT id, title, author_id AS authorId, view_count AS viewCount, created_at AS createdAt "
+            + "FROM archived_posts "
+            + "WHERE title LIKE CONCAT('%', :keyword, '%') "
+            + "OR CONVERT(IF(encoding = 'DEFLATE', UNCOMPRESS(content), content) USING utf8mb4) LIKE CONCAT('%', :keyword, '%') "
+            + "ORDER BY created_at DESC LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<PostSummaryView> searchSummaries(@Param("keyword") String keyword,
+                                          @Param("offset") long offset,
+                                          @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM archived_posts "
+            + "WHERE title LIKE CONCAT('%', :keyword, '%') "
+            + "OR CONVERT(IF(encoding = 'DEFLATE', UNCOMPRESS(content), content) USING utf8mb4) LIKE CONCAT('%', :keyword, '%')",
+            nativeQuery = true)
+    long countByKeyword(@Param("keyword") String keyword);
+
+    @Query("SELECT p.author.id FROM ArchivedPost p WHERE p.id = :postId")
+    Optional<Long> findAuthorIdById(@Param("postId") Long postId);
+
+    // 보관 댓글/첨부파일은 ON DELETE CASCADE로 함께 삭제
+    @Modifying
+    @Query("DELETE FROM ArchivedPost p WHERE p.id = :postId")
+    int deleteInBulkById(@Param("postId") Long postId);
+
+    // ===== 이관 (PostArchiveService 전용, 같은 트랜잭션에서 posts 삭제 전에 순서대로 실행) =====
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_posts (id, author_id, title, encoding, content, view_count, created_at, updated_at) "
+            + "SELECT p.id, p.author_id, p.title, b.encoding, b.content, COALESCE(s.view_count, 0), p.created_at, p.updated_at "
+            + "FROM posts p JOIN post_bodies b ON b.post_id = p.id LEFT JOIN post_stats s ON s.post_id = p.id "
+            + "WHERE p.id IN (:postIds)",
+            nativeQuery = true)
+    int copyPosts(@Param("postIds") List<Long> postIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_comments "
+            + "(id, post_id, parent_id, path, depth, reply_count, author_id, content, created_at, deleted_at) "
+            + "SELECT c.id, c.post_id, c.parent_id, c.path, c.depth, c.reply_count, c.author_id, c.content, "
+            + "c.created_at, c.deleted_at FROM comments c WHERE c.post_id IN (:postIds)",
+            nativeQuery = true)
+    int copyComments(@Param("postIds") List<Long> postIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_attachments "
+            + "(id, post_id, s3_key, file_name, file_size, content_type, thumbnail_s3_key, web_s3_key, created_at) "
+            + "SELECT a.id, a.post_id, a.s3_key, a.file_name, a.file_size, a.content_type, a.thumbnail_s3_key, a.web_s3_key, a.created_at "
+            + "FROM attachments a WHERE a.post_id IN (:postIds)",
+            nativeQuery = true)
+    int copyAttachments(@Param("postIds") List<Long> postIds);
+}
@@ -0,0 +1,16 @@
+package lch.domain.post.repository;
+
+import java.util.stream.Stream;
+
+// 게시글 삭제 시 엔티티 전체 대신 S3 정리에 필요한 키만 조회하기 위한 프로젝션
+
+public record AttachmentKeys(
+    String s3Key,
+    String thumbnailS3Key,
+    String webS3Key
+) {
+    // 아직 생성되지 않은 파생본(null)은 제외한 실제 S3 키 목록
+    public Stream<String> stream() {
+        return Stream.of(s3Key, thumbnailS3Key, webS3Key).filter(key -> key != null);
+    }
+}
@@ -1,13 +1,67 @@
 package lch.domain.post.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import lch.domain.post.entity.Attachment;
+import lch.domain.post.entity.AttachmentVariantStatus;
 
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
 
     // 게시글에 속한 모든 첨부파일을 찾기 위한 메서드
     List<Attachment> findByPostId(Long postId);
-}
\ No newline at end of file
+
+    // 게시글 삭제용: 엔티티를 영속성 컨텍스트에 올리지 않고 S3 키만 조회
+    @Query("SELECT new lch.domain.post.repository.AttachmentKeys(a.s3Key, a.thumbnailS3Key, a.webS3Key) "
+            + "FROM Attachment a WHERE a.post.id = :postId")
+    List<AttachmentKeys> findKeysByPostId(@Param("postId") Long postId);
+
+    // 파생본 작업 스윕: 대기 시간이 지난 PENDING 작업과, 워커가 중간에 죽어 오래 방치된 PROCESSING 작업의 ID만 조회
+    @Query("SELECT a.id FROM Attachment a "
+            + "WHERE (a.variantStatus = :pending AND (a.variantUpdatedAt IS NULL OR a.variantUpdatedAt < :pendingBefore)) "
+            + "OR (a.variantStatus = :processing AND a.variantUpdatedAt < :staleBefore) "
+            + "ORDER BY a.id")
+    List<Long> findVariantJobIds(@Param("pending") AttachmentVariantStatus pending,
+                                 @Param("processing") AttachmentVariantStatus processing,
+                                 @Param("pendingBefore") LocalDateTime pendingBefore,
+                                 @Param("staleBefore") LocalDateTime staleBefore,
+                                 Pageable pageable);
+
+    // 작업 선점: 조건부 UPDATE가 1건을 갱신한 워커(노드)만 변환을 수행하므로 중복 처리 방지
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.variantStatus = :processing, a.variantAttempts = a.variantAttempts + 1, a.variantUpdatedAt = :now "
+            + "WHERE a.id = :id AND a.variantAttempts < :maxAttempts "
+            + "AND (a.variantStatus = :pending OR (a.variantStatus = :processing AND a.variantUpdatedAt < :staleBefore))")
+    int claimVariantJob(@Param("id") Long id,
+                        @Param("pending") AttachmentVariantStatus pending,
+                        @Param("processing") AttachmentVariantStatus processing,
+                        @Param("now") LocalDateTime now,
+                        @Param("staleBefore") LocalDateTime staleBefore,
+                        @Param("maxAttempts") int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.thumbnailS3Key = :thumbnailKey, a.webS3Key = :webKey, "
+            + "a.variantStatus = :ready, a.variantUpdatedAt = :now WHERE a.id = :id")
+    int completeVariantJob(@Param("id") Long id,
+                           @Param("thumbnailKey") String thumbnailKey,
+                           @Param("webKey") String webKey,
+                           @Param("ready") AttachmentVariantStatus ready,
+                           @Param("now") LocalDateTime now);
+
+    // 실패 시 상태만 되돌림 (재시도 횟수를 넘겼다면 FAILED로 확정)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.variantStatus = :status, a.variantUpdatedAt = :now WHERE a.id = :id")
+    int updateVariantStatus(@Param("id") Long id,
+                            @Param("status") AttachmentVariantStatus status,
+                            @Param("now") LocalDateTime now);
+}
@@ -1,15 +1,57 @@
 package lch.domain.post.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
 import lch.domain.post.entity.Comment;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // N+1 방지: 댓글 조회 시 작성자 정보도 함께 가져옴
+    // 게시글의 댓글/답글 전체를 트리 순서로 조회 (uk_comment_post_path 범위 조회 한 번)
     @EntityGraph(attributePaths = {"author"})
-    List<Comment> findByPostId(Long postId);
-}
\ No newline at end of file
+    List<Comment> findByPostIdOrderByPathAsc(Long postId);
+
+    // (after, before) 경로 구간을 트리 순서로 limit건 조회
+    // 게시글 전체: ("", PATH_END), 서브트리: (path, subtreeEnd), 다음 페이지는 after에 이전 페이지 마지막 경로(커서)를 전달
+    @EntityGraph(attributePaths = {"author"})
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.path > :after AND c.path < :before ORDER BY c.path")
+    List<Comment> findPathRange(@Param("postId") Long postId, @Param("after") String after,
+                                @Param("before") String before, Limit limit);
+
+    // 댓글 행을 SELECT ... FOR UPDATE로 잠근 채 조회
+    // 답글 작성(부모 행)과 삭제(자기 행)가 같은 행을 잠그므로, 삭제가 하위 댓글 유무를 확인하는 동안 새 답글이 끼어들 수 없음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Comment c WHERE c.id = :id")
+    Optional<Comment> findByIdForUpdate(@Param("id") Long id);
+
+    // 하위 댓글 존재 여부 (삭제 표시만 남은 답글 포함)
+    boolean existsByPostIdAndPathGreaterThanAndPathLessThan(Long postId, String after, String before);
+
+    // 답글 순번 발급: 부모 행을 증가 UPDATE로 잠근 뒤 같은 트랜잭션에서 값을 읽음
+    @Modifying
+    @Query("UPDATE Comment c SET c.childSeq = c.childSeq + 1 WHERE c.id = :id")
+    int incrementChildSeq(@Param("id") Long id);
+
+    @Query("SELECT c.childSeq FROM Comment c WHERE c.id = :id")
+    int findChildSeq(@Param("id") Long id);
+
+    // 조상 댓글들의 답글 수를 한 번에 증감 (경로 목록은 Comment.ancestorPaths)
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.post.id = :postId AND c.path IN :paths")
+    int addReplyCount(@Param("postId") Long postId, @Param("paths") List<String> paths, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt WHERE c.id = :id")
+    int markDeleted(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+}
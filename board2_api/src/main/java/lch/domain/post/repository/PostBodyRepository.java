@@ -0,0 +1,8 @@
+package lch.domain.post.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import lch.domain.post.entity.PostBody;
+
+public interface PostBodyRepository extends JpaRepository<PostBody, Long> {
+}
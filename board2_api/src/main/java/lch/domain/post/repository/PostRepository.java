@@ -1,5 +1,9 @@
 package lch.domain.post.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -12,17 +16,52 @@ import lch.domain.post.entity.Post;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-	// N+1 문제 방지: 게시글 조회 시 작성자(author) 정보도 함께 JOIN 페치
+	// N+1 문제 방지: 게시글 조회 시 작성자(author)와 카운터(stats)도 함께 JOIN 페치
+	// post_stats는 PK로 1:1 조인되는 좁은 테이블이므로 목록 쿼리 비용이 거의 늘지 않음
 	@Override
-	@EntityGraph(attributePaths = {"author"})
+	@EntityGraph(attributePaths = {"author", "stats"})
     Page<Post> findAll(Pageable pageable);
 
-	// 제목 또는 내용으로 검색 (N+1 방지)
-    @EntityGraph(attributePaths = {"author"})
-    Page<Post> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
+    // 상세 조회용: 카운터를 같은 쿼리로 함께 조회
+    @EntityGraph(attributePaths = {"stats"})
+    Optional<Post> findWithStatsById(Long id);
+
+	// 제목 또는 내용으로 검색
+	// 본문은 post_bodies에 저장되며 큰 본문은 COMPRESS() 형식으로 압축되어 있으므로 DB에서 UNCOMPRESS() 후 비교
+	// keyword는 LIKE 와일드카드(%, _)가 이스케이프된 값이어야 하며, 정렬은 쿼리에 고정 (최신순)
+	// 카운터(post_stats)까지 조인한 프로젝션으로 반환하여 결과 행마다 추가 조회가 발생하지 않도록 함
+    @Query(value = "SELECT p.id, p.title, p.author_id AS authorId, s.view_count AS viewCount, p.created_at AS createdAt "
+            + "FROM posts p JOIN post_bodies b ON b.post_id = p.id JOIN post_stats s ON s.post_id = p.id "
+            + "WHERE p.title LIKE CONCAT('%', :keyword, '%') "
+            + "OR CONVERT(IF(b.encoding = 'DEFLATE', UNCOMPRESS(b.content), b.content) USING utf8mb4) LIKE CONCAT('%', :keyword, '%') "
+            + "ORDER BY p.created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM posts p JOIN post_bodies b ON b.post_id = p.id "
+            + "WHERE p.title LIKE CONCAT('%', :keyword, '%') "
+            + "OR CONVERT(IF(b.encoding = 'DEFLATE', UNCOMPRESS(b.content), b.content) USING utf8mb4) LIKE CONCAT('%', :keyword, '%')",
+            nativeQuery = true)
+    Page<PostSummaryView> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    // 권한 확인용: 게시글 엔티티(및 연관 컬렉션)를 로딩하지 않고 작성자 PK만 조회
+    @Query("SELECT p.author.id FROM Post p WHERE p.id = :postId")
+    Optional<Long> findAuthorIdById(@Param("postId") Long postId);
+
+    // 단일 DELETE 문으로 게시글 삭제
+    // 댓글/첨부파일은 DB의 ON DELETE CASCADE 외래키로 함께 삭제되므로 자식 엔티티를 한 건씩 지우지 않음
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id = :postId")
+    int deleteInBulkById(@Param("postId") Long postId);
+
+    // 보관 계층 이관 대상: 기준 시각 이전에 작성된 게시글을 오래된 순으로 선택
+    // FOR UPDATE SKIP LOCKED로 여러 노드의 이관 작업이 서로 다른 게시글을 나눠 가져가며,
+    // 이미지 파생본 작업이 진행 중인 게시글은 워커의 완료 기록이 유실되지 않도록 다음 회차로 미룸
+    @Query(value = "SELECT p.id FROM posts p WHERE p.created_at < :cutoff "
+            + "AND NOT EXISTS (SELECT 1 FROM attachments a WHERE a.post_id = p.id "
+            + "AND a.variant_status IN ('PENDING', 'PROCESSING')) "
+            + "ORDER BY p.created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 
-    // 조회수 합산 시 영속성 컨텍스트의 1차 캐시 문제로 데이터가 덮어씌워지는 것을 방지하기 위해 DB 수준에서 직접 더하는 쿼리를 사용
     @Modifying
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :count WHERE p.id = :postId")
-    void addViewCountNative(@Param("postId") Long postId, @Param("count") Long count);
+    @Query("DELETE FROM Post p WHERE p.id IN :postIds")
+    int deleteInBulkByIdIn(@Param("postIds") List<Long> postIds);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package lch.domain.post.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import lch.domain.post.entity.PostStats;
+
+public interface PostStatsRepository extends JpaRepository<PostStats, Long>, PostStatsRepositoryCustom {
+
+    // 댓글 작성/삭제와 같은 트랜잭션에서 증감 (posts 행은 잠그지 않음)
+    @Modifying
+    @Query("UPDATE PostStats s SET s.commentCount = s.commentCount + :delta WHERE s.postId = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 최상위 댓글 순번 발급: 증가 UPDATE로 행을 잠근 뒤 같은 트랜잭션에서 값을 읽음 (동시 작성 간 순번 중복 방지)
+    @Modifying
+    @Query("UPDATE PostStats s SET s.threadSeq = s.threadSeq + 1 WHERE s.postId = :postId")
+    int incrementThreadSeq(@Param("postId") Long postId);
+
+    @Query("SELECT s.threadSeq FROM PostStats s WHERE s.postId = :postId")
+    int findThreadSeq(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE PostStats s SET s.attachmentCount = s.attachmentCount + :delta WHERE s.postId = :postId")
+    int addAttachmentCount(@Param("postId") Long postId, @Param("delta") int delta);
+}
@@ -0,0 +1,10 @@
+package lch.domain.post.repository;
+
+import java.util.Map;
+
+// JPA 쿼리 메서드로 표현할 수 없는 JDBC 배치 갱신용 프래그먼트 (구현: PostStatsRepositoryImpl)
+public interface PostStatsRepositoryCustom {
+
+    // 게시글별 조회수 증가분(postId -> delta)을 한 번의 JDBC 배치로 반영
+    void addViewCounts(Map<Long, Long> deltas);
+}
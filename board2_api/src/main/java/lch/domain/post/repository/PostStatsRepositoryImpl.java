@@ -0,0 +1,55 @@
+package lch.domain.post.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * 조회수 증가분 일괄 반영
+ * 게시글마다 UPDATE를 한 번씩 보내지 않고 JDBC 배치로 묶어 전송하며 (rewriteBatchedStatements로 왕복 횟수 최소화),
+ * 현재 트랜잭션의 커넥션을 그대로 사용하므로 호출한 쪽의 @Transactional 범위에서 함께 커밋/롤백됨
+ * 조회수를 꺼낸 뒤 게시글이 보관 테이블로 이관되었으면(post_stats 행 없음) archived_posts에 반영
+ */
+
+public class PostStatsRepositoryImpl implements PostStatsRepositoryCustom {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE post_stats SET view_count = view_count + ? WHERE post_id = ?";
+    private static final String ADD_ARCHIVED_VIEW_COUNT_SQL = "UPDATE archived_posts SET view_count = view_count + ? WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostStatsRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // PK 순으로 정렬하여 여러 노드가 동시에 반영하더라도 행 잠금 순서가 같도록 함 (교착 상태 방지)
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(deltas).entrySet());
+        int[][] updated = batchUpdate(ADD_VIEW_COUNT_SQL, entries);
+
+        List<Map.Entry<Long, Long>> missing = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[i / BATCH_SIZE][i % BATCH_SIZE] == 0) {
+                missing.add(entries.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            batchUpdate(ADD_ARCHIVED_VIEW_COUNT_SQL, missing);
+        }
+    }
+
+    private int[][] batchUpdate(String sql, List<Map.Entry<Long, Long>> entries) {
+        return jdbcTemplate.batchUpdate(sql, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+}
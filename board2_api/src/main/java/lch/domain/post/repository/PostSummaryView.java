@@ -0,0 +1,13 @@
+package lch.domain.post.repository;
+
+import java.time.LocalDateTime;
+
+// 게시글 검색 및 보관 게시글 목록용 프로젝션 (네이티브 쿼리 컬럼 별칭과 게터 이름이 일치해야 함)
+// 본문(MEDIUMBLOB)을 읽지 않도록 목록에 필요한 컬럼만 조회
+public interface PostSummaryView {
+    Long getId();
+    String getTitle();
+    Long getAuthorId();
+    Long getViewCount();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,157 @@
+package lch.domain.post.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lch.global.infra.RedisGuard;
+
+/*
+ * 조건부 GET(ETag / Last-Modified)을 위한 콘텐츠 버전 관리
+ * 게시글 상세는 게시글별 버전, 목록은 전체 목록 버전 하나를 Redis 해시(v: 변경 횟수, ts: 마지막 변경 시각)로 관리하고,
+ * 게시글/댓글/첨부파일이 바뀔 때마다 커밋 이후 버전을 올림
+ * 컨트롤러는 DB 조회 전에 버전만 읽어 클라이언트의 검증값과 같으면 304로 응답 (쿼리, 직렬화 모두 생략)
+ * 게시글 버전 키는 쓰기 시점 또는 게시글이 있음을 확인한 뒤에만 만듦 (존재하지 않는 id 조회로 키가 쌓이지 않도록)
+ * 버전 키는 TTL이 지나면 사라지고 다음 생성 때 새 시각으로 만들어지며, ETag에 시각이 포함되므로 이전 ETag와 겹치지 않음
+ * 버전이 바뀐 직후에는 레플리카가 아직 이전 내용을 가질 수 있으므로 isNewerThanReplicas()이면 Primary에서 읽어야 함
+ * Redis 장애 시에는 검증값 없이 항상 전체 응답
+ */
+
+@Service
+public class ContentVersionService {
+
+    private static final String POST_VERSION_PREFIX = "http:version:post:";
+    private static final String LIST_VERSION_KEY = "http:version:posts";
+
+    // 버전이 있을 때만 TTL을 연장하고 [v, ts] 반환 (없으면 [nil, nil])
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HMGET', KEYS[1], 'v', 'ts')
+            if state[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return state
+            """, List.class);
+
+    // 버전이 없으면 현재 시각으로 만들고, 조회될 때마다 TTL을 연장한 뒤 [v, ts] 반환
+    private static final RedisScript<List> READ_OR_INIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HSETNX', KEYS[1], 'v', '1') == 1 then
+                redis.call('HSET', KEYS[1], 'ts', ARGV[1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return redis.call('HMGET', KEYS[1], 'v', 'ts')
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisGuard redisGuard;
+    private final Duration versionTtl;
+    // 레플리카가 이 시간보다 오래 뒤처지면 라우팅에서 제외되므로, 그 이전의 변경은 레플리카에 반영되어 있음
+    // (허용 지연 + 지연 점검 주기: 점검 직후부터 다음 점검까지 지연이 더 커질 수 있음)
+    private final long replicaLagBoundMillis;
+
+    public ContentVersionService(StringRedisTemplate redisTemplate, RedisGuard redisGuard,
+                                 @Value("${app.http-cache.version-ttl}") Duration versionTtl,
+                                 @Value("${app.datasource.replica.max-lag-seconds}") long maxLagSeconds,
+                                 @Value("${app.datasource.replica.lag-check-interval-ms}") long lagCheckIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.redisGuard = redisGuard;
+        this.versionTtl = versionTtl;
+        this.replicaLagBoundMillis = maxLagSeconds * 1000 + lagCheckIntervalMs;
+    }
+
+    // 응답 검증값: 약한 ETag(조회수처럼 검증값에 포함하지 않는 필드가 있으므로)와 마지막 변경 시각(epoch millis)
+    public record Validator(String etag, long lastModified) {}
+
+    // 이미 있는 버전만 조회 (없거나 Redis 장애면 null)
+    public Validator postValidator(Long postId) {
+        return validator(READ_SCRIPT, POST_VERSION_PREFIX + postId, "p" + postId, String.valueOf(versionTtl.toMillis()));
+    }
+
+    // 게시글이 있음을 확인한 뒤 버전이 없으면 만듦 (다음 조회부터 검증값 사용)
+    public Validator initPostValidator(Long postId) {
+        return validator(READ_OR_INIT_SCRIPT, POST_VERSION_PREFIX + postId, "p" + postId,
+                String.valueOf(System.currentTimeMillis()), String.valueOf(versionTtl.toMillis()));
+    }
+
+    // 목록은 키가 하나뿐이므로 조회 시 바로 만듦
+    public Validator listValidator() {
+        return validator(READ_OR_INIT_SCRIPT, LIST_VERSION_KEY, "l",
+                String.valueOf(System.currentTimeMillis()), String.valueOf(versionTtl.toMillis()));
+    }
+
+    // 버전이 바뀐 지 얼마 안 되어 레플리카에 아직 반영되지 않았을 수 있는지 여부
+    public boolean isNewerThanReplicas(Validator validator) {
+        return System.currentTimeMillis() - validator.lastModified() < replicaLagBoundMillis;
+    }
+
+    // 게시글 상세에 보이는 내용(제목, 본문, 댓글, 첨부파일, 조회수)이 바뀌었을 때
+    public void bumpPost(Long postId) {
+        bumpAfterCommit(List.of(POST_VERSION_PREFIX + postId));
+    }
+
+    // 목록 첫 페이지부터 순서/내용이 바뀌었을 때 (작성, 삭제, 제목 수정, 이관)
+    public void bumpList() {
+        bumpAfterCommit(List.of(LIST_VERSION_KEY));
+    }
+
+    public void bumpPostAndList(Long postId) {
+        bumpAfterCommit(List.of(POST_VERSION_PREFIX + postId, LIST_VERSION_KEY));
+    }
+
+    // 조회수 반영 등 여러 게시글의 버전을 한 번에 올릴 때 (파이프라인 1회)
+    public void bumpPosts(Collection<Long> postIds) {
+        bumpAfterCommit(postIds.stream().map(id -> POST_VERSION_PREFIX + id).toList());
+    }
+
+    private Validator validator(RedisScript<List> script, String key, String tag, String... args) {
+        return redisGuard.call(() -> {
+            List<?> state = redisTemplate.execute(script, List.of(key), (Object[]) args);
+            if (state == null || state.size() < 2 || state.get(0) == null || state.get(1) == null) {
+                return null;
+            }
+            String version = state.get(0).toString();
+            String timestamp = state.get(1).toString();
+            return new Validator("W/\"" + tag + "-" + version + "-" + timestamp + "\"", Long.parseLong(timestamp));
+        }, () -> null);
+    }
+
+    // 롤백된 변경으로 버전이 바뀌지 않도록 커밋 이후에 반영 (트랜잭션 밖에서는 즉시)
+    private void bumpAfterCommit(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(keys);
+                }
+            });
+        } else {
+            bump(keys);
+        }
+    }
+
+    private void bump(List<String> keys) {
+        String now = String.valueOf(System.currentTimeMillis());
+        long ttlMillis = versionTtl.toMillis();
+        redisGuard.run(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String key : keys) {
+                stringConnection.hIncrBy(key, "v", 1);
+                stringConnection.hSet(key, "ts", now);
+                stringConnection.pExpire(key, ttlMillis);
+            }
+            return null;
+        }));
+    }
+}
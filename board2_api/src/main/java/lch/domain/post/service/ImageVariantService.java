@@ -0,0 +1,152 @@
+package lch.domain.post.service;
+
+import java.awt.image.BufferedImage;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lch.domain.post.entity.Attachment;
+import lch.domain.post.entity.AttachmentVariantStatus;
+import lch.domain.post.repository.AttachmentRepository;
+import lch.global.infra.ImageResizer;
+import lch.global.infra.S3StorageService;
+
+/*
+ * 이미지 첨부파일의 파생본(썸네일, 웹 최적화본)을 비동기로 생성하는 파이프라인
+ * 1. 요청 스레드: 원본만 S3에 올리고 attachments.variant_status = PENDING으로 저장 (createPost 지연 시간 변화 없음)
+ * 2. 커밋 이후: 제한된 워커 풀(imageVariantExecutor)에 작업 등록
+ * 3. 워커: 조건부 UPDATE로 작업을 선점한 뒤 원본 다운로드 -> 리사이즈 -> 업로드 -> READY 기록
+ * 대기열 초과, 서버 재시작 등으로 누락된 작업은 attachments 테이블 자체가 작업 큐이므로 주기적인 스윕으로 복구
+ */
+
+@Service
+public class ImageVariantService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final AttachmentRepository attachmentRepository;
+    private final S3StorageService s3StorageService;
+    private final ImageResizer imageResizer;
+    private final TaskExecutor imageVariantExecutor;
+    private final ContentVersionService contentVersionService;
+
+    @Value("${app.image.thumbnail-width}")
+    private int thumbnailWidth;
+
+    @Value("${app.image.web-width}")
+    private int webWidth;
+
+    @Value("${app.image.max-attempts}")
+    private int maxAttempts;
+
+    public ImageVariantService(AttachmentRepository attachmentRepository, S3StorageService s3StorageService,
+                               ImageResizer imageResizer, @Qualifier("imageVariantExecutor") TaskExecutor imageVariantExecutor,
+                               ContentVersionService contentVersionService) {
+        this.attachmentRepository = attachmentRepository;
+        this.s3StorageService = s3StorageService;
+        this.imageResizer = imageResizer;
+        this.imageVariantExecutor = imageVariantExecutor;
+        this.contentVersionService = contentVersionService;
+    }
+
+    // DB 커밋이 끝난 뒤에만 작업을 등록 (롤백된 첨부파일을 변환하지 않도록)
+    public void enqueueAfterCommit(List<Long> attachmentIds) {
+        if (attachmentIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            attachmentIds.forEach(this::enqueue);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                attachmentIds.forEach(ImageVariantService.this::enqueue);
+            }
+        });
+    }
+
+    public void enqueue(Long attachmentId) {
+        try {
+            imageVariantExecutor.execute(() -> process(attachmentId));
+        } catch (TaskRejectedException e) {
+            // 작업은 PENDING 상태로 DB에 남아 있으므로 스윕 단계에서 다시 처리됨
+            log.warn("이미지 변환 대기열이 가득 차 다음 스윕으로 미룹니다. attachmentId: {}", attachmentId);
+        }
+    }
+
+    // 대기 시간이 지난 PENDING 작업과 오래 방치된 PROCESSING 작업을 다시 큐에 넣음
+    @Scheduled(fixedDelayString = "${app.image.sweep-interval-ms}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = attachmentRepository.findVariantJobIds(
+                AttachmentVariantStatus.PENDING, AttachmentVariantStatus.PROCESSING,
+                now.minusMinutes(1), now.minusMinutes(10), PageRequest.of(0, 100));
+
+        ids.forEach(this::enqueue);
+    }
+
+    void process(Long attachmentId) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = attachmentRepository.claimVariantJob(attachmentId,
+                AttachmentVariantStatus.PENDING, AttachmentVariantStatus.PROCESSING,
+                now, now.minusMinutes(10), maxAttempts);
+        if (claimed == 0) {
+            return; // 다른 워커(노드)가 이미 처리 중이거나 처리 완료됨
+        }
+
+        Attachment attachment = attachmentRepository.findById(attachmentId).orElse(null);
+        if (attachment == null) {
+            return; // 처리 도중 게시글/첨부파일이 삭제된 경우
+        }
+
+        try {
+            BufferedImage image = imageResizer.read(s3StorageService.downloadFile(attachment.getS3Key()));
+            if (image == null) {
+                log.warn("이미지로 디코딩할 수 없어 파생본 생성을 중단합니다. attachmentId: {}", attachmentId);
+                attachmentRepository.updateVariantStatus(attachmentId, AttachmentVariantStatus.FAILED, LocalDateTime.now());
+                return;
+            }
+
+            String thumbnailKey = variantKey(attachment.getS3Key(), "thumb");
+            String webKey = variantKey(attachment.getS3Key(), "web");
+
+            s3StorageService.uploadBytes(thumbnailKey, imageResizer.resizeToJpeg(image, thumbnailWidth, 0.75f), VARIANT_CONTENT_TYPE);
+            s3StorageService.uploadBytes(webKey, imageResizer.resizeToJpeg(image, webWidth, 0.82f), VARIANT_CONTENT_TYPE);
+
+            attachmentRepository.completeVariantJob(attachmentId, thumbnailKey, webKey,
+                    AttachmentVariantStatus.READY, LocalDateTime.now());
+            // 상세 응답의 썸네일/웹 URL이 채워졌으므로 캐시된 응답을 무효화
+            contentVersionService.bumpPost(attachment.getPost().getId());
+        } catch (Exception e) {
+            log.error("이미지 파생본 생성 실패 [attachmentId: {}]: {}", attachmentId, e.getMessage());
+            // 재시도 횟수가 남아 있으면 PENDING으로 되돌려 다음 스윕에서 재시도
+            AttachmentVariantStatus next = attachment.getVariantAttempts() >= maxAttempts
+                    ? AttachmentVariantStatus.FAILED : AttachmentVariantStatus.PENDING;
+            attachmentRepository.updateVariantStatus(attachmentId, next, LocalDateTime.now());
+        }
+    }
+
+    // board/{uuid}.png -> board/thumb/{uuid}.jpg
+    static String variantKey(String originalKey, String variant) {
+        int slash = originalKey.lastIndexOf('/');
+        String directory = originalKey.substring(0, slash + 1);
+        String fileName = originalKey.substring(slash + 1);
+        int dot = fileName.lastIndexOf('.');
+        String baseName = (dot > 0) ? fileName.substring(0, dot) : fileName;
+        return directory + variant + "/" + baseName + ".jpg";
+    }
+}
@@ -0,0 +1,51 @@
+package lch.domain.post.service;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 트래픽이 적은 시간대에 오래된 게시글을 배치 단위로 보관 계층으로 이관
+// 배치마다 별도 트랜잭션으로 커밋하여 행 잠금 시간과 언두 로그 크기를 제한
+
+@Component
+public class PostArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PostArchiveScheduler.class);
+
+    private final PostArchiveService postArchiveService;
+
+    @Value("${app.archive.after-days}")
+    private int archiveAfterDays;
+
+    @Value("${app.archive.batch-size}")
+    private int batchSize;
+
+    @Value("${app.archive.max-batches-per-run}")
+    private int maxBatchesPerRun;
+
+    public PostArchiveScheduler(PostArchiveService postArchiveService) {
+        this.postArchiveService = postArchiveService;
+    }
+
+    @Scheduled(cron = "${app.archive.cron}")
+    public void archiveOldPosts() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAfterDays);
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved = postArchiveService.archiveBatch(cutoff, batchSize);
+            total += moved;
+            if (moved < batchSize) {
+                break; // 남은 대상 없음 (또는 다른 노드가 잠근 행만 남음)
+            }
+        }
+
+        if (total > 0) {
+            log.info("게시글 {}건을 보관 테이블로 이관했습니다. (기준: {} 이전 작성)", total, cutoff);
+        }
+    }
+}
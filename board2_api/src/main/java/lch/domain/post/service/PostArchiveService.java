@@ -0,0 +1,117 @@
+package lch.domain.post.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lch.domain.post.repository.ArchivedPostRepository;
+import lch.domain.post.repository.PostRepository;
+import lch.domain.post.repository.PostStatsRepository;
+
+/*
+ * 오래된 게시글을 운영 테이블(posts, post_bodies, comments, attachments)에서 보관 테이블(archived_*)로 이관
+ * 한 배치는 하나의 트랜잭션에서 INSERT ... SELECT 3회 + DELETE 1회로 처리되며,
+ * posts 삭제 시 나머지 운영 테이블 행은 ON DELETE CASCADE로 DB가 함께 삭제
+ * 이관 후에도 게시글 PK가 유지되므로 상세 조회/검색/삭제는 PostService에서 보관 테이블로 이어서 조회
+ */
+
+@Service
+public class PostArchiveService {
+
+    // 목록 조회마다 보관 테이블 COUNT(*)를 하지 않도록 개수를 잠시 캐시 (이관은 하루 한 번이므로 약간의 지연은 허용)
+    private static final long COUNT_CACHE_TTL_MS = 60_000L;
+
+    private final PostRepository postRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final PostStatsRepository postStatsRepository;
+    private final RedisViewCountService viewCountService;
+    private final ContentVersionService contentVersionService;
+
+    private volatile long cachedArchivedCount = -1L;
+    private volatile long countCachedAt;
+
+    // 검색어별 보관 게시글 수: 보관 테이블 검색 COUNT는 UNCOMPRESS + LIKE 전체 스캔이므로 검색 요청마다 세지 않음
+    private final Cache<String, Long> searchCounts = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMillis(COUNT_CACHE_TTL_MS))
+            .build();
+
+    public PostArchiveService(PostRepository postRepository, ArchivedPostRepository archivedPostRepository,
+                              PostStatsRepository postStatsRepository, RedisViewCountService viewCountService,
+                              ContentVersionService contentVersionService) {
+        this.postRepository = postRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.postStatsRepository = postStatsRepository;
+        this.viewCountService = viewCountService;
+        this.contentVersionService = contentVersionService;
+    }
+
+    // 기준 시각 이전 게시글을 최대 batchSize건 이관하고 이관한 건수를 반환
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<Long> postIds = postRepository.lockIdsCreatedBefore(cutoff, batchSize);
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+
+        // Redis에만 있는 미동기화 조회수를 먼저 post_stats에 합산해야 이관된 조회수가 정확함
+        // 스케줄러와 같은 방식(GETDEL)으로 꺼내 같은 증가분이 두 번 반영되지 않게 하고, 롤백되면 다시 넣어 유실을 막음
+        // 꺼낸 뒤 커밋 전까지 들어온 조회수는 스케줄러가 다음 주기에 archived_posts로 반영 (PostStatsRepositoryImpl)
+        Map<Long, Long> pendingViews = viewCountService.takeCounts(postIds);
+        if (!pendingViews.isEmpty()) {
+            registerRestoreOnRollback(pendingViews);
+            postStatsRepository.addViewCounts(pendingViews);
+        }
+
+        archivedPostRepository.copyPosts(postIds);
+        archivedPostRepository.copyComments(postIds);
+        archivedPostRepository.copyAttachments(postIds);
+        postRepository.deleteInBulkByIdIn(postIds);
+
+        invalidateCount();
+        // 상세 내용은 같지만 목록의 마지막 페이지 구성이 바뀜
+        contentVersionService.bumpList();
+        return postIds.size();
+    }
+
+    // 보관 게시글 수 (목록 조회 전체 개수 계산용)
+    public long archivedPostCount() {
+        long now = System.currentTimeMillis();
+        if (cachedArchivedCount < 0 || now - countCachedAt > COUNT_CACHE_TTL_MS) {
+            cachedArchivedCount = archivedPostRepository.count();
+            countCachedAt = now;
+        }
+        return cachedArchivedCount;
+    }
+
+    // 검색어(LIKE 이스케이프 적용)에 해당하는 보관 게시글 수
+    public long archivedSearchCount(String escapedKeyword) {
+        return searchCounts.get(escapedKeyword, archivedPostRepository::countByKeyword);
+    }
+
+    // 보관 게시글이 추가/삭제되면 다음 목록/검색 조회에서 개수를 다시 셈
+    public void invalidateCount() {
+        cachedArchivedCount = -1L;
+        searchCounts.invalidateAll();
+    }
+
+    private void registerRestoreOnRollback(Map<Long, Long> pendingViews) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    viewCountService.restoreCounts(pendingViews);
+                }
+            }
+        });
+    }
+}
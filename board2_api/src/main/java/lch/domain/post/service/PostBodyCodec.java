@@ -0,0 +1,119 @@
+package lch.domain.post.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lch.domain.post.entity.PostBody;
+import lch.domain.post.entity.PostBodyEncoding;
+
+/*
+ * 게시글 본문 인코딩/디코딩
+ * 임계값(app.post.body-compression-threshold) 이상인 본문만 Deflate로 압축하며,
+ * MySQL COMPRESS()와 같은 형식(4바이트 리틀엔디언 원본 길이 + zlib 스트림)을 사용하여
+ * 검색 쿼리에서는 DB가 UNCOMPRESS()로 풀어 LIKE 검색을 그대로 수행할 수 있도록 함
+ * Deflater/Inflater는 내부에서 synchronized를 사용하여 가상 스레드를 캐리어에 고정(pin)시키지만,
+ * 블로킹 I/O 없이 메모리 상의 압축 연산만 하므로 고정 시간은 본문 크기에 비례하는 짧은 CPU 시간뿐임
+ */
+
+@Component
+public class PostBodyCodec {
+
+    private final int compressionThreshold;
+
+    public PostBodyCodec(@Value("${app.post.body-compression-threshold}") int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public PostBody encode(Long postId, String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        return shouldCompress(raw)
+                ? new PostBody(postId, PostBodyEncoding.DEFLATE, compress(raw))
+                : new PostBody(postId, PostBodyEncoding.NONE, raw);
+    }
+
+    public void rewrite(PostBody body, String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (shouldCompress(raw)) {
+            body.replace(PostBodyEncoding.DEFLATE, compress(raw));
+        } else {
+            body.replace(PostBodyEncoding.NONE, raw);
+        }
+    }
+
+    public String decode(PostBody body) {
+        return decode(body.getEncoding(), body.getContent());
+    }
+
+    // 보관 게시글(archived_posts)은 post_bodies의 인코딩/바이트를 그대로 옮겨 저장하므로 같은 방식으로 해제
+    public String decode(PostBodyEncoding encoding, byte[] content) {
+        byte[] raw = encoding == PostBodyEncoding.DEFLATE ? decompress(content) : content;
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    private boolean shouldCompress(byte[] raw) {
+        return raw.length >= compressionThreshold;
+    }
+
+    private byte[] compress(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+        // MySQL COMPRESS() 헤더: 원본 길이(리틀엔디언 4바이트)
+        out.write(raw.length & 0xFF);
+        out.write((raw.length >>> 8) & 0xFF);
+        out.write((raw.length >>> 16) & 0xFF);
+        out.write((raw.length >>> 24) & 0xFF);
+
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] decompress(byte[] stored) {
+        int originalLength = (stored[0] & 0xFF)
+                | (stored[1] & 0xFF) << 8
+                | (stored[2] & 0xFF) << 16
+                | (stored[3] & 0x3F) << 24;
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, 4, stored.length - 4);
+            byte[] raw = new byte[originalLength];
+            int offset = 0;
+            while (offset < originalLength && !inflater.finished()) {
+                int length = inflater.inflate(raw, offset, originalLength - offset);
+                // 사전(preset dictionary)을 요구하는 스트림은 COMPRESS() 형식이 아니며, 이후 inflate가 계속 0을 반환함
+                if (inflater.needsDictionary()) {
+                    throw new IllegalStateException("손상된 게시글 본문입니다. (사전이 필요한 스트림)");
+                }
+                if (length == 0 && inflater.needsInput()) {
+                    break;
+                }
+                offset += length;
+            }
+            // 스트림이 헤더의 원본 길이보다 먼저 끝나면(잘린 본문) 나머지가 0으로 채워진 채 반환되지 않도록 실패 처리
+            if (offset < originalLength) {
+                throw new IllegalStateException("손상된 게시글 본문입니다. (" + offset + "/" + originalLength + "바이트)");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 게시글 본문입니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
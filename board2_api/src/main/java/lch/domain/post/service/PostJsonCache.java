@@ -0,0 +1,203 @@
+package lch.domain.post.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import lch.domain.post.dto.PostListResponse;
+import lch.domain.post.dto.PostResponse;
+import lch.domain.post.dto.PostSnapshot;
+import lch.global.error.ApiResponse;
+import lch.global.infra.ReplicationRoutingDataSource;
+import lch.global.infra.RequestTiming;
+import tools.jackson.databind.json.JsonMapper;
+
+/*
+ * 미리 직렬화한 JSON 응답 캐시 (게시글 상세, 목록 페이지)
+ * 응답을 UTF-8 JSON 바이트로 한 번만 직렬화해 두고, 요청마다 Jackson을 거치지 않고 서블릿 출력 스트림에 그대로 기록
+ * 요청마다 달라지는 값은 조회수뿐이므로, 직렬화할 때 조회수 자리에 표식 값을 넣어 그 위치에서 바이트를 잘라 두고
+ * 출력할 때 조각 사이에 "DB 반영 조회수 + Redis 미동기화 조회수"를 숫자로 끼워 넣음
+ * 캐시 키에 ContentVersionService의 ETag가 포함되므로 내용이 바뀌면 자연히 새 키로 다시 만들어짐
+ * (DB 조회수도 반영 주기마다 버전이 올라가므로 함께 갱신)
+ * 템플릿은 모든 유저가 TTL 동안 공유하므로 항상 Primary에서 읽어 만듦
+ *  - 레플리카는 버전보다 뒤처진 본문이나, 조회수 반영 커밋 이전의 조회수(Redis 증분은 이미 가져간 상태)를 줄 수 있음
+ *  - Primary 조회는 버전당 한 번(캐시 미스)뿐이므로 부하는 크지 않음
+ * 크기 제한은 항목 수가 아닌 바이트 기준 (본문/댓글이 많은 상세 응답은 목록 한 페이지의 수십 배)
+ */
+
+@Service
+public class PostJsonCache {
+
+    // 실제 조회수로 나올 수 없는 값 (직렬화 결과에서 위치를 찾기 위한 표식)
+    private static final long VIEW_COUNT_MARKER = Long.MIN_VALUE + 7_919L;
+    private static final byte[] MARKER_BYTES = Long.toString(VIEW_COUNT_MARKER).getBytes(StandardCharsets.US_ASCII);
+
+    private final JsonMapper jsonMapper;
+    private final RedisViewCountService viewCountService;
+    private final Cache<String, JsonTemplate> templates;
+
+    public PostJsonCache(JsonMapper jsonMapper, RedisViewCountService viewCountService, MeterRegistry meterRegistry,
+                         @Value("${app.json-cache.max-size}") DataSize maxSize,
+                         @Value("${app.json-cache.ttl}") Duration ttl) {
+        this.jsonMapper = jsonMapper;
+        this.viewCountService = viewCountService;
+        this.templates = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, JsonTemplate template) -> template.byteSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, templates, "post.json");
+    }
+
+    // 상세 응답 출력 (운영 게시글이면 이번 조회도 집계)
+    // 같은 키를 동시에 요청하면 한 요청만 DB 조회/직렬화를 수행하고 나머지는 그 결과를 기다림
+    public void writeDetail(Long postId, String version, Supplier<PostSnapshot> loader, HttpServletResponse response)
+            throws IOException {
+        JsonTemplate template = templates.get("post:" + postId + ":" + version,
+                key -> detailTemplate(ReplicationRoutingDataSource.readFromPrimary(loader)));
+
+        if (template.countsView()) {
+            viewCountService.increment(postId);
+        }
+        write(template, viewCountService.getCounts(template.postIds()), template.countsView() ? 1 : 0, response);
+    }
+
+    // 응답 출력 없이 상세 템플릿만 미리 만들어 둠 (기동 직후 워밍업용, 조회수 집계 없음)
+    public void preloadDetail(Long postId, String version, Supplier<PostSnapshot> loader) {
+        templates.get("post:" + postId + ":" + version,
+                key -> detailTemplate(ReplicationRoutingDataSource.readFromPrimary(loader)));
+    }
+
+    // 목록 페이지 출력 (page/size마다 별도 항목)
+    public void writeList(int page, int size, String version, Supplier<Page<PostListResponse>> loader,
+                          HttpServletResponse response) throws IOException {
+        JsonTemplate template = templates.get("list:" + page + ":" + size + ":" + version,
+                key -> listTemplate(ReplicationRoutingDataSource.readFromPrimary(loader)));
+        write(template, viewCountService.getCounts(template.postIds()), 0, response);
+    }
+
+    private JsonTemplate detailTemplate(PostSnapshot snapshot) {
+        PostResponse post = snapshot.response();
+        if (!snapshot.live()) {
+            return JsonTemplate.fixed(toJson(ApiResponse.success("조회 성공", post)), false);
+        }
+        PostResponse marked = new PostResponse(post.id(), post.title(), post.content(), VIEW_COUNT_MARKER,
+                post.authorNickname(), post.createdAt(), post.attachments(), post.comments());
+        JsonTemplate template = split(toJson(ApiResponse.success("조회 성공", marked)),
+                List.of(post.id()), new long[] { post.viewCount() }, true);
+        return template != null ? template
+                : JsonTemplate.fixed(toJson(ApiResponse.success("조회 성공", post)), true);
+    }
+
+    private JsonTemplate listTemplate(Page<PostListResponse> page) {
+        List<PostListResponse> items = page.getContent();
+        List<Long> postIds = items.stream().map(PostListResponse::id).toList();
+        long[] baseCounts = items.stream().mapToLong(PostListResponse::viewCount).toArray();
+
+        List<PostListResponse> marked = items.stream()
+                .map(item -> new PostListResponse(item.id(), item.title(), item.authorNickname(), VIEW_COUNT_MARKER,
+                        item.createdAt()))
+                .toList();
+        Page<PostListResponse> markedPage = new PageImpl<>(marked, page.getPageable(), page.getTotalElements());
+        JsonTemplate template = split(toJson(ApiResponse.success("목록 조회 성공", markedPage)),
+                postIds, baseCounts, false);
+        return template != null ? template
+                : JsonTemplate.fixed(toJson(ApiResponse.success("목록 조회 성공", page)), false);
+    }
+
+    // 직렬화 시간은 요청의 Server-Timing(json)에 포함
+    private byte[] toJson(Object value) {
+        return RequestTiming.time(RequestTiming.Category.JSON, () -> jsonMapper.writeValueAsBytes(value));
+    }
+
+    // 표식 위치에서 바이트를 잘라 조각 목록을 만듦
+    // 표식 수가 조회수 자리 수와 다르면(제목/본문에 같은 숫자가 들어 있는 경우) null을 반환하고,
+    // 호출한 쪽은 실제 값으로 직렬화한 고정 응답을 캐시 (이 경우 조회수는 다음 버전까지 고정)
+    private JsonTemplate split(byte[] json, List<Long> postIds, long[] baseCounts, boolean countsView) {
+        List<byte[]> segments = new ArrayList<>(postIds.size() + 1);
+        int from = 0;
+        for (int i = indexOf(json, 0); i >= 0; i = indexOf(json, from)) {
+            segments.add(Arrays.copyOfRange(json, from, i));
+            from = i + MARKER_BYTES.length;
+        }
+        segments.add(Arrays.copyOfRange(json, from, json.length));
+
+        if (segments.size() != postIds.size() + 1) {
+            return null;
+        }
+        return new JsonTemplate(segments.toArray(byte[][]::new), postIds, baseCounts, countsView);
+    }
+
+    private int indexOf(byte[] json, int from) {
+        outer:
+        for (int i = from; i <= json.length - MARKER_BYTES.length; i++) {
+            for (int j = 0; j < MARKER_BYTES.length; j++) {
+                if (json[i + j] != MARKER_BYTES[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private void write(JsonTemplate template, long[] pending, long extraViews, HttpServletResponse response)
+            throws IOException {
+        byte[][] segments = template.segments();
+        byte[][] counts = new byte[template.postIds().size()][];
+        int length = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = Long.toString(template.baseCounts()[i] + pending[i] + extraViews).getBytes(StandardCharsets.US_ASCII);
+            length += counts[i].length;
+        }
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(length);
+        OutputStream out = response.getOutputStream();
+        for (int i = 0; i < counts.length; i++) {
+            out.write(segments[i]);
+            out.write(counts[i]);
+        }
+        out.write(segments[segments.length - 1]);
+    }
+
+    // segments.length == postIds.size() + 1, 조회수는 segments[i]와 segments[i + 1] 사이에 들어감
+    // countsView: 출력할 때마다 이번 조회를 집계하는 운영 게시글 상세 응답인지 여부
+    private record JsonTemplate(byte[][] segments, List<Long> postIds, long[] baseCounts, boolean countsView) {
+
+        static JsonTemplate fixed(byte[] json, boolean countsView) {
+            return new JsonTemplate(new byte[][] { json }, List.of(), new long[0], countsView);
+        }
+
+        // 캐시 용량 계산용 (조각 바이트 합계, 객체 헤더 등은 제외)
+        int byteSize() {
+            int size = 0;
+            for (byte[] segment : segments) {
+                size += segment.length;
+            }
+            return size;
+        }
+    }
+}
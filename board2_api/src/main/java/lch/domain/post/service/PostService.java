@@ -1,34 +1,59 @@
 package lch.domain.post.service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lch.domain.post.dto.AttachmentResponse;
+import lch.domain.post.dto.CommentPageResponse;
 import lch.domain.post.dto.CommentResponse;
 import lch.domain.post.dto.PostCreateCommand;
 import lch.domain.post.dto.PostListResponse;
 import lch.domain.post.dto.PostResponse;
+import lch.domain.post.dto.PostSnapshot;
 import lch.domain.post.dto.PostUpdateCommand;
+import lch.domain.post.entity.ArchivedComment;
+import lch.domain.post.entity.ArchivedPost;
 import lch.domain.post.entity.Attachment;
 import lch.domain.post.entity.Comment;
 import lch.domain.post.entity.Post;
+import lch.domain.post.entity.PostBody;
+import lch.domain.post.entity.PostStats;
+import lch.domain.post.repository.ArchivedAttachmentRepository;
+import lch.domain.post.repository.ArchivedCommentRepository;
+import lch.domain.post.repository.ArchivedPostRepository;
+import lch.domain.post.repository.AttachmentKeys;
 import lch.domain.post.repository.AttachmentRepository;
+import lch.domain.post.repository.PostBodyRepository;
 import lch.domain.post.repository.CommentRepository;
 import lch.domain.post.repository.PostRepository;
+import lch.domain.post.repository.PostStatsRepository;
+import lch.domain.post.repository.PostSummaryView;
 import lch.domain.user.entity.User;
 import lch.domain.user.repository.UserRepository;
 import lch.domain.user.service.UserCacheService;
 import lch.global.error.BusinessException;
+import lch.global.infra.FanOutExecutor;
 import lch.global.infra.S3StorageService;
 
 @Service
@@ -36,20 +61,47 @@ public class PostService {
 
 	private static final Logger log = LoggerFactory.getLogger(PostService.class);
 
+	private static final int MAX_COMMENT_PAGE_SIZE = 100;
+	private static final String DELETED_COMMENT = "삭제된 댓글입니다.";
+	private static final Sort NEWEST_FIRST = Sort.by("createdAt").descending();
+
 	private final PostRepository postRepository;
+	private final PostBodyRepository postBodyRepository;
+	private final PostStatsRepository postStatsRepository;
 	private final AttachmentRepository attachmentRepository;
 	private final UserRepository userRepository;
 	private final CommentRepository commentRepository;
+	private final ArchivedPostRepository archivedPostRepository;
+	private final ArchivedCommentRepository archivedCommentRepository;
+	private final ArchivedAttachmentRepository archivedAttachmentRepository;
 
 	private final RedisViewCountService viewCountService;
 	private final UserCacheService userCacheService;
 	private final S3StorageService s3StorageService;
 	private final SearchService searchService;
+	private final ImageVariantService imageVariantService;
+	private final PostBodyCodec postBodyCodec;
+	private final PostArchiveService postArchiveService;
+	private final FanOutExecutor fanOutExecutor;
+	private final ContentVersionService contentVersionService;
+
+	// 검색어 저장을 제외한 검색 쿼리(운영 + 보관 테이블) 시간
+	private final Timer searchTimer;
+
+	// 답글을 달 수 있는 최대 깊이 (최상위 댓글 0)
+	@Value("${app.comment.max-depth}")
+	private int maxCommentDepth;
 
 	public PostService(PostRepository postRepository, AttachmentRepository attachmentRepository,
 			UserRepository userRepository, RedisViewCountService viewCountService, SearchService searchService,
-			UserCacheService userCacheService, S3StorageService s3StorageService, CommentRepository commentRepository) {
+			UserCacheService userCacheService, S3StorageService s3StorageService, CommentRepository commentRepository,
+			ImageVariantService imageVariantService, PostBodyRepository postBodyRepository, PostBodyCodec postBodyCodec,
+			ArchivedPostRepository archivedPostRepository, ArchivedCommentRepository archivedCommentRepository,
+			ArchivedAttachmentRepository archivedAttachmentRepository, PostArchiveService postArchiveService,
+			PostStatsRepository postStatsRepository, FanOutExecutor fanOutExecutor,
+			ContentVersionService contentVersionService, MeterRegistry meterRegistry) {
 		this.postRepository = postRepository;
+		this.postBodyRepository = postBodyRepository;
 		this.attachmentRepository = attachmentRepository;
 		this.userRepository = userRepository;
 		this.viewCountService = viewCountService;
@@ -57,35 +109,66 @@ public class PostService {
 		this.s3StorageService = s3StorageService;
 		this.commentRepository = commentRepository;
 		this.searchService = searchService;
+		this.imageVariantService = imageVariantService;
+		this.postBodyCodec = postBodyCodec;
+		this.archivedPostRepository = archivedPostRepository;
+		this.archivedCommentRepository = archivedCommentRepository;
+		this.archivedAttachmentRepository = archivedAttachmentRepository;
+		this.postArchiveService = postArchiveService;
+		this.postStatsRepository = postStatsRepository;
+		this.fanOutExecutor = fanOutExecutor;
+		this.contentVersionService = contentVersionService;
+		this.searchTimer = Timer.builder("search.query").register(meterRegistry);
 	}
 
 	@Transactional
 	public Long createPost(PostCreateCommand command) {
-		User author = userRepository.findById(command.authorId())
-				.orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다."));
-
-		Post post = new Post(author, command.title(), command.content());
+		Post post = new Post(authorReference(command.authorId()), command.title());
 		postRepository.save(post);
 
+		// 본문은 별도 테이블에 저장 (임계값 이상이면 압축)
+		postBodyRepository.save(postBodyCodec.encode(post.getId(), command.content()));
+
 		List<MultipartFile> files = command.files();
+
+		// 카운터 행도 함께 생성 (첨부파일 수는 생성 시점에 확정)
+		postStatsRepository.save(new PostStats(post.getId(), files == null ? 0 : files.size()));
 		if (files != null && !files.isEmpty()) {
-			List<String> uploadedKeys = new ArrayList<>();
+			List<Attachment> attachments = new ArrayList<>();
 
 			for (MultipartFile file : files) {
 				// S3 업로드
 				String s3Key = s3StorageService.uploadFile(file);
-				uploadedKeys.add(s3Key);
 
 				// 트랜잭션 롤백 시 S3 파일 삭제를 위한 동기화 작업 등록
 				registerS3Rollback(s3Key);
 
-				Attachment attachment = new Attachment(post, s3Key, file.getOriginalFilename(), file.getSize());
-				attachmentRepository.save(attachment);
+				attachments.add(new Attachment(post, s3Key, file.getOriginalFilename(), file.getSize(), file.getContentType()));
 			}
+
+			// PK가 선할당되므로 INSERT는 커밋 시점에 하나의 배치로 전송됨
+			attachmentRepository.saveAll(attachments);
+
+			List<Long> imageAttachmentIds = attachments.stream()
+					.filter(Attachment::requiresVariants)
+					.map(Attachment::getId)
+					.toList();
+
+			// 썸네일/웹 최적화본은 커밋 이후 워커 풀에서 생성 (응답 지연 없음)
+			imageVariantService.enqueueAfterCommit(imageAttachmentIds);
 		}
+		contentVersionService.bumpList();
 		return post.getId();
 	}
 
+	// 작성자 확인은 닉네임 캐시로 하고, 연관관계에는 SELECT 없이 프록시(참조)만 설정
+	private User authorReference(Long userId) {
+		if (userCacheService.findNickname(userId).isEmpty()) {
+			throw new BusinessException("사용자를 찾을 수 없습니다.");
+		}
+		return userRepository.getReferenceById(userId);
+	}
+
 	// DB 트랜잭션 롤백 시 S3 파일을 삭제하는 동기화 로직
 	private void registerS3Rollback(String s3Key) {
 		if (TransactionSynchronizationManager.isActualTransactionActive()) {
@@ -101,70 +184,115 @@ public class PostService {
 		}
 	}
 
-	// 상세 조회
-	@Transactional(readOnly = true)
-	public PostResponse getPost(Long postId, Long currentUserId) {
-		Post post = postRepository.findById(postId).orElseThrow(() -> new BusinessException("게시글을 찾을 수 없습니다."));
-
-		// 조회수 증가 후, DB 값과 Redis에만 있는 미동기화 값을 합산하여 응답 (논리 오류 1-1 해결)
+	// 304 응답으로 상세 조회를 생략한 경우에도 조회수는 집계
+	public void countView(Long postId) {
 		viewCountService.increment(postId);
-		Long redisCount = viewCountService.getCount("post:view:count:" + postId);
-		Long totalViewCount = post.getViewCount() + redisCount;
-
-		String authorNickname = userCacheService.getUserNickname(post.getAuthor().getId());
+	}
 
-		List<AttachmentResponse> attachmentResponses = attachmentRepository.findByPostId(postId).stream()
-				.map(a -> new AttachmentResponse(a.getId(), a.getFileName(), a.getS3Key())).toList();
+	// 상세 조회
+	// 메서드 전체를 트랜잭션으로 감싸지 않음: 게시글 한 건만 짧은 트랜잭션으로 읽고 커넥션을 반납한 뒤 나머지 조회를 fork
+	// (감싸면 호출 스레드가 커넥션을 쥔 채로 fork마다 커넥션을 하나씩 더 얻어 요청 하나가 풀을 여러 개 점유)
+	public PostResponse getPost(Long postId, Long currentUserId) {
+		Post post = fanOutExecutor.readOnly(() -> postRepository.findWithStatsById(postId).orElse(null));
+		if (post == null) {
+			// 운영 테이블에 없으면 보관 계층에서 조회 (보관 게시글의 조회수는 이관 시점 값으로 고정)
+			return fanOutExecutor.readOnly(() -> archivedPostRepository.findById(postId)
+					.map(this::toArchivedPostResponse)
+					.orElseThrow(() -> new BusinessException("게시글을 찾을 수 없습니다.")));
+		}
+		return toPostResponse(post, true);
+	}
 
-		List<CommentResponse> commentResponses = commentRepository.findByPostId(postId).stream()
-				.map(c -> new CommentResponse(c.getId(), c.getAuthor().getNickname(), c.getContent(), c.getCreatedAt()))
-				.toList();
+	// 미리 직렬화해 둘 상세 응답: 조회수 증가 없이 DB(post_stats)에 반영된 조회수만 담음
+	// live가 true이면(운영 게시글) 출력할 때마다 미동기화 조회수 + 이번 조회 1회를 더해야 함
+	public PostSnapshot getPostSnapshot(Long postId) {
+		Post post = fanOutExecutor.readOnly(() -> postRepository.findWithStatsById(postId).orElse(null));
+		if (post == null) {
+			return fanOutExecutor.readOnly(() -> archivedPostRepository.findById(postId)
+					.map(archived -> new PostSnapshot(toArchivedPostResponse(archived), false))
+					.orElseThrow(() -> new BusinessException("게시글을 찾을 수 없습니다.")));
+		}
+		return new PostSnapshot(toPostResponse(post, false), true);
+	}
 
-		return new PostResponse(post.getId(), post.getTitle(), post.getContent(), totalViewCount, // 합산값 전달
-				authorNickname, post.getCreatedAt(), attachmentResponses, commentResponses);
+	// countView: 이번 조회를 집계하고 Redis의 미동기화 조회수를 응답에 합산할지 여부
+	// post는 트랜잭션이 끝난(준영속) 엔티티이므로 지연 로딩 연관(첨부파일 등)은 읽지 않고 각 작업에서 따로 조회
+	private PostResponse toPostResponse(Post post, boolean countView) {
+		Long postId = post.getId();
+
+		// 게시글 이후의 조회는 서로 의존하지 않으므로 가상 스레드로 동시에 실행 (응답 지연 ≈ 가장 느린 호출 하나)
+		Long authorId = post.getAuthor().getId();
+		try (FanOutExecutor.Scope scope = fanOutExecutor.open()) {
+			// 조회수 증가는 부가 쓰기 큐로 보내고(응답 대기 없음), 응답에는 미동기화 조회수 + 이번 조회 1회를 합산 (논리 오류 1-1 해결)
+			Supplier<Long> redisCount = () -> 0L;
+			if (countView) {
+				viewCountService.increment(postId);
+				redisCount = scope.fork(() -> viewCountService.getCount("post:view:count:" + postId) + 1);
+			}
+			Supplier<String> authorNickname = scope.fork(() -> userCacheService.getUserNickname(authorId));
+			Supplier<List<CommentResponse>> commentResponses = scope.fork(() -> commentRepository
+					.findByPostIdOrderByPathAsc(postId).stream().map(this::toCommentResponse).toList());
+			// 본문은 상세 조회에서만 읽고, 압축된 경우 여기서 해제
+			Supplier<String> content = scope.fork(() -> postBodyRepository.findById(postId)
+					.map(postBodyCodec::decode).orElse(""));
+			Supplier<List<AttachmentResponse>> attachmentResponses = scope.fork(() -> attachmentRepository
+					.findByPostId(postId).stream().map(this::toAttachmentResponse).toList());
+
+			scope.join();
+
+			Long totalViewCount = post.getStats().getViewCount() + redisCount.get();
+			return new PostResponse(post.getId(), post.getTitle(), content.get(), totalViewCount, // 합산값 전달
+					authorNickname.get(), post.getCreatedAt(), attachmentResponses.get(), commentResponses.get());
+		}
 	}
 
 	// 삭제
 	@Transactional
 	public void deletePost(Long postId, Long currentUserId) {
-		// 1. 커스텀 예외 구조에 맞춘 검증 로직
-		Post post = postRepository.findById(postId)
-				.orElseThrow(() -> new BusinessException("게시글을 찾을 수 없습니다."));
+		// 댓글/첨부파일 수와 관계없이 SELECT 2회 + DELETE 1회로 처리 (엔티티를 영속성 컨텍스트에 올리지 않음)
 
-		if (!post.getAuthor().getId().equals(currentUserId)) {
+		// 1. 커스텀 예외 구조에 맞춘 검증 로직 (작성자 PK만 조회)
+		Long authorId = postRepository.findAuthorIdById(postId).orElse(null);
+		if (authorId == null) {
+			deleteArchivedPost(postId, currentUserId);
+			return;
+		}
+
+		if (!authorId.equals(currentUserId)) {
 			throw new BusinessException.AccessDeniedException("게시글 삭제 권한이 없습니다.");
 		}
 
 		// 2. DB 작업 실패 시 롤백을 고려한 Redis 키 삭제 예약
 		registerAfterCommitDeletion("post:view:count:" + postId, false);
 
-		// 3. 연관된 첨부파일 S3 실물 삭제 예약 및 DB 엔티티 삭제
-		List<Attachment> attachments = attachmentRepository.findByPostId(postId);
-		for (Attachment attachment : attachments) {
-			registerAfterCommitDeletion(attachment.getS3Key(), true);
-		}
-		// 부모(Post)보다 자식(Attachment)을 먼저 삭제해야 JPA 영속성 오류가 발생하지 않음
-		attachmentRepository.deleteAll(attachments);
-
-		// 4. 연관된 댓글 삭제
-		List<Comment> comments = commentRepository.findByPostId(postId);
-		commentRepository.deleteAll(comments);
+		// 3. 첨부파일(원본 + 파생본) S3 실물 삭제 예약: 키만 프로젝션으로 조회
+		attachmentRepository.findKeysByPostId(postId).stream()
+				.flatMap(AttachmentKeys::stream)
+				.forEach(key -> registerAfterCommitDeletion(key, true));
 
-		// 5. DB 게시글 삭제
-		postRepository.delete(post);
+		// 4. DB 게시글 삭제: 댓글/첨부파일 행은 ON DELETE CASCADE로 DB가 함께 삭제
+		postRepository.deleteInBulkById(postId);
+		contentVersionService.bumpPostAndList(postId);
 	}
 
 	// 게시글 수정
 	// updatePost 메서드 등 다른 로직에서도 동일하게 registerS3Rollback을 호출하여 안전하게 관리 가능
 	@Transactional
 	public Long updatePost(Long postId, Long currentUserId, PostUpdateCommand command) {
-		Post post = postRepository.findById(postId).orElseThrow(() -> new BusinessException("게시글을 찾을 수 없습니다."));
+		Post post = postRepository.findById(postId).orElseThrow(() -> notFoundOrArchived(postId));
 
 		if (!post.getAuthor().getId().equals(currentUserId)) {
 			throw new BusinessException.AccessDeniedException("게시글 수정 권한이 없습니다.");
 		}
 
-		post.update(command.title(), command.content());
+		post.update(command.title());
+
+		PostBody body = postBodyRepository.findById(postId)
+				.orElseThrow(() -> new BusinessException("게시글 본문을 찾을 수 없습니다."));
+		postBodyCodec.rewrite(body, command.content());
+
+		// 첨부파일 수 증감분 (마지막에 post_stats에 한 번만 반영)
+		int attachmentDelta = 0;
 
 		// 기존 파일 삭제
 		if (command.deletedAttachmentIds() != null && !command.deletedAttachmentIds().isEmpty()) {
@@ -172,57 +300,211 @@ public class PostService {
 			for (Attachment attachment : targetAttachments) {
 				if (attachment.getPost().getId().equals(postId)) {
 					s3StorageService.deleteFile(attachment.getS3Key());
+					registerVariantDeletion(attachment);
 					attachmentRepository.delete(attachment);
+					attachmentDelta--;
 				}
 			}
 		}
 
 		// 새 파일 추가 시에도 롤백 로직 적용
 		if (command.newFiles() != null && !command.newFiles().isEmpty()) {
+			List<Attachment> newAttachments = new ArrayList<>();
 			for (MultipartFile file : command.newFiles()) {
 				String s3Key = s3StorageService.uploadFile(file);
 				registerS3Rollback(s3Key); // 롤백 대비
-				attachmentRepository.save(new Attachment(post, s3Key, file.getOriginalFilename(), file.getSize()));
+				newAttachments.add(new Attachment(post, s3Key, file.getOriginalFilename(), file.getSize(), file.getContentType()));
 			}
+			attachmentRepository.saveAll(newAttachments);
+			attachmentDelta += newAttachments.size();
+
+			imageVariantService.enqueueAfterCommit(newAttachments.stream()
+					.filter(Attachment::requiresVariants)
+					.map(Attachment::getId)
+					.toList());
+		}
+
+		if (attachmentDelta != 0) {
+			postStatsRepository.addAttachmentCount(postId, attachmentDelta);
 		}
 
+		contentVersionService.bumpPostAndList(postId);
 		return post.getId();
 	}
 
 	// 게시글 목록 불러오기
 	@Transactional(readOnly = true)
 	public Page<PostListResponse> getPostList(Pageable pageable) {
-		Page<Post> posts = postRepository.findAll(pageable);
+		return postList(pageable, true);
+	}
+
+	// 미리 직렬화해 둘 목록: 조회수는 DB(post_stats)에 반영된 값만 담고, 미동기화 조회수는 출력할 때 더함
+	@Transactional(readOnly = true)
+	public Page<PostListResponse> getPostListSnapshot(Pageable pageable) {
+		return postList(pageable, false);
+	}
 
-		return posts.map(post -> {
-			Long redisCount = viewCountService.getCount("post:view:count:" + post.getId());
-			Long totalViewCount = post.getViewCount() + redisCount;
-			String nickname = userCacheService.getUserNickname(post.getAuthor().getId());
+	private Page<PostListResponse> postList(Pageable pageable, boolean withPendingViews) {
+		// 보관 게시글은 최신순으로만 이어 붙일 수 있으므로 요청에 담긴 정렬은 무시하고 최신순으로 고정
+		Pageable newestFirst = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), NEWEST_FIRST);
+		Page<PostListResponse> posts = postRepository.findAll(newestFirst)
+				.map(post -> toListResponse(post, withPendingViews));
 
-			return new PostListResponse(post.getId(), post.getTitle(), nickname, totalViewCount, post.getCreatedAt());
-		});
+		// 운영 테이블의 마지막 페이지를 넘어서면 보관 게시글로 이어서 채움
+		return appendArchived(posts, newestFirst, postArchiveService.archivedPostCount(),
+				archivedPostRepository::findSummaries);
 	}
 
-	// 댓글 작성
+	// 댓글 작성 (parentId가 있으면 해당 댓글의 답글)
 	@Transactional
-	public Long createComment(Long postId, Long userId, String content) {
-		Post post = postRepository.findById(postId).orElseThrow(() -> new BusinessException("게시글을 찾을 수 없습니다."));
-		User author = userRepository.findById(userId).orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다."));
+	public Long createComment(Long postId, Long userId, String content, Long parentId) {
+		Post post = postRepository.findById(postId).orElseThrow(() -> notFoundOrArchived(postId));
+		User author = authorReference(userId);
+
+		Comment comment;
+		if (parentId == null) {
+			postStatsRepository.incrementThreadSeq(postId);
+			comment = new Comment(post, author, content, postStatsRepository.findThreadSeq(postId));
+		} else {
+			// 부모 행을 잠근 뒤 삭제 여부를 확인 (동시에 진행 중인 부모 삭제와 순서를 맞춤, deleteComment 참고)
+			Comment parent = commentRepository.findByIdForUpdate(parentId)
+					.filter(c -> c.getPost().getId().equals(postId))
+					.orElseThrow(() -> new BusinessException("댓글을 찾을 수 없습니다."));
+			if (parent.isDeleted()) {
+				throw new BusinessException("삭제된 댓글에는 답글을 달 수 없습니다.");
+			}
+			if (parent.getDepth() >= maxCommentDepth) {
+				throw new BusinessException("답글은 " + maxCommentDepth + "단계까지만 달 수 있습니다.");
+			}
+			commentRepository.incrementChildSeq(parentId);
+			comment = new Comment(parent, author, content, commentRepository.findChildSeq(parentId));
+			// 부모를 포함한 조상 전체의 답글 수를 UPDATE 한 번으로 증가
+			commentRepository.addReplyCount(postId, comment.ancestorPaths(), 1);
+		}
+		commentRepository.save(comment);
 
-		Comment comment = new Comment(post, author, content);
-		return commentRepository.save(comment).getId();
+		// 댓글 수는 post_stats에서 증감 (게시글 행은 잠그지 않음)
+		postStatsRepository.addCommentCount(postId, 1);
+		contentVersionService.bumpPost(postId);
+		return comment.getId();
 	}
 
 	// 댓글 삭제
 	@Transactional
 	public void deleteComment(Long commentId, Long userId) {
-		Comment comment = commentRepository.findById(commentId)
+		// 하위 댓글 확인 전에 행을 잠금: 답글 작성도 부모 행을 잠그므로, 확인 이후 답글이 달려 행을 지운 뒤
+		// 하위 트리만 남는(고아) 경우가 없고, 잠금을 기다린 답글 작성은 삭제된 부모를 보고 실패함
+		Comment comment = commentRepository.findByIdForUpdate(commentId)
+				.filter(c -> !c.isDeleted())
 				.orElseThrow(() -> new BusinessException("댓글을 찾을 수 없습니다."));
 
 		if (!comment.getAuthor().getId().equals(userId)) {
 			throw new BusinessException.AccessDeniedException("댓글 삭제 권한이 없습니다.");
 		}
-		commentRepository.delete(comment);
+		Long postId = comment.getPost().getId();
+
+		// 답글이 남아 있으면 스레드 구조를 유지하도록 삭제 표시만 하고, 없으면 행을 지움
+		if (commentRepository.existsByPostIdAndPathGreaterThanAndPathLessThan(postId, comment.getPath(), comment.subtreeEnd())) {
+			commentRepository.markDeleted(commentId, LocalDateTime.now());
+		} else {
+			commentRepository.delete(comment);
+			pruneDeletedParents(comment);
+		}
+		if (comment.getDepth() > 0) {
+			commentRepository.addReplyCount(postId, comment.ancestorPaths(), -1);
+		}
+		postStatsRepository.addCommentCount(postId, -1);
+		contentVersionService.bumpPost(postId);
+	}
+
+	// 삭제 표시만 남아 있던 부모가 마지막 답글까지 잃으면 함께 정리 (카운터는 삭제 표시 때 이미 반영됨)
+	private void pruneDeletedParents(Comment comment) {
+		Long parentId = comment.getParentId();
+		while (parentId != null) {
+			Comment parent = commentRepository.findById(parentId).orElse(null);
+			if (parent == null || !parent.isDeleted() || commentRepository
+					.existsByPostIdAndPathGreaterThanAndPathLessThan(parent.getPost().getId(), parent.getPath(), parent.subtreeEnd())) {
+				return;
+			}
+			commentRepository.delete(parent);
+			parentId = parent.getParentId();
+		}
+	}
+
+	// 게시글 댓글을 답글 포함 트리 순서로 커서 페이지 조회 (cursor: 이전 페이지의 nextCursor)
+	// 상세 조회와 같이 운영 테이블에 없는 게시글은 보관 댓글에서 조회
+	// (운영 게시글 대부분은 첫 조회에 결과가 있으므로, 결과가 비었을 때만 게시글 위치를 확인)
+	@Transactional(readOnly = true)
+	public CommentPageResponse getComments(Long postId, String cursor, int size) {
+		CommentPageResponse page = commentPage("", Comment.PATH_END, cursor, size,
+				(after, limit) -> commentRepository.findPathRange(postId, after, Comment.PATH_END, limit),
+				Comment::getPath, this::toCommentResponse);
+		if (!page.comments().isEmpty() || postRepository.existsById(postId)) {
+			return page;
+		}
+		if (!archivedPostRepository.existsById(postId)) {
+			throw new BusinessException("게시글을 찾을 수 없습니다.");
+		}
+		return commentPage("", Comment.PATH_END, cursor, size,
+				(after, limit) -> archivedCommentRepository.findPathRange(postId, after, Comment.PATH_END, limit),
+				ArchivedComment::getPath, this::toCommentResponse);
+	}
+
+	// 댓글 하나의 하위 답글 전체를 트리 순서로 커서 페이지 조회 (보관된 댓글이면 보관 테이블에서)
+	@Transactional(readOnly = true)
+	public CommentPageResponse getReplies(Long commentId, String cursor, int size) {
+		Comment comment = commentRepository.findById(commentId).orElse(null);
+		if (comment != null) {
+			Long postId = comment.getPost().getId();
+			return commentPage(comment.getPath(), comment.subtreeEnd(), cursor, size,
+					(after, limit) -> commentRepository.findPathRange(postId, after, comment.subtreeEnd(), limit),
+					Comment::getPath, this::toCommentResponse);
+		}
+		ArchivedComment archived = archivedCommentRepository.findById(commentId)
+				.orElseThrow(() -> new BusinessException("댓글을 찾을 수 없습니다."));
+		String subtreeEnd = Comment.subtreeEnd(archived.getPath());
+		return commentPage(archived.getPath(), subtreeEnd, cursor, size,
+				(after, limit) -> archivedCommentRepository.findPathRange(archived.getPostId(), after, subtreeEnd, limit),
+				ArchivedComment::getPath, this::toCommentResponse);
+	}
+
+	// (from, to) 경로 구간에서 커서 이후 한 페이지를 인덱스 범위 조회 한 번으로 읽음 (다음 페이지 여부 확인용으로 1건 더 조회)
+	// 운영/보관 댓글 테이블이 같은 경로 형식을 쓰므로 조회 함수만 바꿔 공유
+	private <T> CommentPageResponse commentPage(String from, String to, String cursor, int size,
+			BiFunction<String, Limit, List<T>> findPathRange, Function<T, String> pathOf,
+			Function<T, CommentResponse> toResponse) {
+		String after = from;
+		if (cursor != null && !cursor.isEmpty()) {
+			if (!Comment.isValidPath(cursor) || cursor.compareTo(from) <= 0 || cursor.compareTo(to) >= 0) {
+				throw new BusinessException("잘못된 커서입니다.");
+			}
+			after = cursor;
+		}
+		int pageSize = Math.clamp(size, 1, MAX_COMMENT_PAGE_SIZE);
+		List<T> comments = findPathRange.apply(after, Limit.of(pageSize + 1));
+
+		boolean hasNext = comments.size() > pageSize;
+		List<T> page = hasNext ? comments.subList(0, pageSize) : comments;
+		return new CommentPageResponse(page.stream().map(toResponse).toList(),
+				hasNext ? pathOf.apply(page.getLast()) : null, hasNext);
+	}
+
+	private CommentResponse toCommentResponse(Comment c) {
+		if (c.isDeleted()) {
+			return new CommentResponse(c.getId(), null, DELETED_COMMENT, c.getCreatedAt(),
+					c.getParentId(), c.getDepth(), c.getReplyCount(), true);
+		}
+		return new CommentResponse(c.getId(), c.getAuthor().getNickname(), c.getContent(), c.getCreatedAt(),
+				c.getParentId(), c.getDepth(), c.getReplyCount(), false);
+	}
+
+	private CommentResponse toCommentResponse(ArchivedComment c) {
+		if (c.isDeleted()) {
+			return new CommentResponse(c.getId(), null, DELETED_COMMENT, c.getCreatedAt(),
+					c.getParentId(), c.getDepth(), c.getReplyCount(), true);
+		}
+		return new CommentResponse(c.getId(), c.getAuthor().getNickname(), c.getContent(), c.getCreatedAt(),
+				c.getParentId(), c.getDepth(), c.getReplyCount(), false);
 	}
 
 	// 게시글 검색 및 검색어 저장
@@ -233,15 +515,121 @@ public class PostService {
 			searchService.saveKeyword(userId, keyword.trim());
 		}
 
-		Page<Post> posts = postRepository.findByTitleContainingOrContentContaining(keyword, keyword, pageable);
+		return searchTimer.record(() -> searchByKeyword(keyword, pageable));
+	}
+
+	private Page<PostListResponse> searchByKeyword(String keyword, Pageable pageable) {
+		// 정렬(최신순)은 네이티브 쿼리에 고정되어 있으므로 페이지 정보만 전달
+		Pageable pageOnly = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+		String escaped = escapeLike(keyword);
+		Page<PostListResponse> posts = postRepository.searchByKeyword(escaped, pageOnly)
+				.map(view -> toListResponse(view, viewCountService.getCount("post:view:count:" + view.getId())));
+
+		// 보관 게시글도 같은 조건으로 검색하여 운영 테이블 결과 뒤에 이어 붙임 (보관 결과 수는 검색어별로 잠시 캐시)
+		return appendArchived(posts, pageOnly, postArchiveService.archivedSearchCount(escaped),
+				(offset, limit) -> archivedPostRepository.searchSummaries(escaped, offset, limit));
+	}
+
+	// 운영 테이블의 최신순 결과 뒤에 보관 테이블의 최신순 결과를 이어 붙여 하나의 페이지로 반환
+	// 요청한 페이지가 운영 결과 안에 있으면 보관 테이블 행은 조회하지 않음 (개수만 합산)
+	// 두 결과를 병합 정렬하지는 않으므로, 이관이 미뤄진 오래된 게시글(이미지 파생본 작업 중이거나 SKIP LOCKED로 건너뜀)은
+	// 다음 이관 회차까지 자신보다 최신인 보관 게시글보다 앞에 나옴
+	private Page<PostListResponse> appendArchived(Page<PostListResponse> hotPage, Pageable pageable, long archivedTotal,
+			BiFunction<Long, Integer, List<PostSummaryView>> archivedSlice) {
+		long total = hotPage.getTotalElements() + archivedTotal;
+		int remaining = pageable.getPageSize() - hotPage.getNumberOfElements();
+		if (remaining <= 0 || archivedTotal == 0) {
+			return new PageImpl<>(hotPage.getContent(), pageable, total);
+		}
+
+		long archivedOffset = Math.max(0, pageable.getOffset() - hotPage.getTotalElements());
+		List<PostListResponse> content = new ArrayList<>(hotPage.getContent());
+		archivedSlice.apply(archivedOffset, remaining).forEach(view -> content.add(toListResponse(view, 0L)));
+		return new PageImpl<>(content, pageable, total);
+	}
+
+	private PostListResponse toListResponse(Post post, boolean withPendingViews) {
+		Long redisCount = withPendingViews ? viewCountService.getCount("post:view:count:" + post.getId()) : 0L;
+		Long totalViewCount = post.getStats().getViewCount() + redisCount;
+		String nickname = userCacheService.getUserNickname(post.getAuthor().getId());
 
-		return posts.map(post -> {
-			Long redisCount = viewCountService.getCount("post:view:count:" + post.getId());
-			Long totalViewCount = post.getViewCount() + redisCount;
-			String nickname = userCacheService.getUserNickname(post.getAuthor().getId());
+		return new PostListResponse(post.getId(), post.getTitle(), nickname, totalViewCount, post.getCreatedAt());
+	}
+
+	// pendingViews: Redis에만 있는 미동기화 조회수 (보관 게시글은 조회수를 올리지 않으므로 0)
+	private PostListResponse toListResponse(PostSummaryView view, Long pendingViews) {
+		return toListResponse(view, userCacheService.getUserNickname(view.getAuthorId()), pendingViews);
+	}
 
-			return new PostListResponse(post.getId(), post.getTitle(), nickname, totalViewCount, post.getCreatedAt());
-		});
+	// 닉네임 조회를 뺀 목록 항목 매핑 (벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private static)
+	static PostListResponse toListResponse(PostSummaryView view, String nickname, long pendingViews) {
+		return new PostListResponse(view.getId(), view.getTitle(), nickname, view.getViewCount() + pendingViews,
+				view.getCreatedAt());
+	}
+
+	private PostResponse toArchivedPostResponse(ArchivedPost post) {
+		List<AttachmentResponse> attachmentResponses = archivedAttachmentRepository.findByPostId(post.getId()).stream()
+				.map(a -> new AttachmentResponse(a.getId(), a.getFileName(), a.getS3Key(),
+						s3StorageService.getFileUrl(a.getThumbnailS3Key()),
+						s3StorageService.getFileUrl(a.getWebS3Key())))
+				.toList();
+
+		List<CommentResponse> commentResponses = archivedCommentRepository.findByPostIdOrderByPathAsc(post.getId()).stream()
+				.map(this::toCommentResponse)
+				.toList();
+
+		String content = postBodyCodec.decode(post.getEncoding(), post.getContent());
+		String authorNickname = userCacheService.getUserNickname(post.getAuthor().getId());
+
+		return new PostResponse(post.getId(), post.getTitle(), content, post.getViewCount(),
+				authorNickname, post.getCreatedAt(), attachmentResponses, commentResponses);
+	}
+
+	// 보관 게시글 삭제: 운영 게시글과 같은 권한 검증 후 보관 테이블에서 삭제 (댓글/첨부파일은 CASCADE)
+	private void deleteArchivedPost(Long postId, Long currentUserId) {
+		Long authorId = archivedPostRepository.findAuthorIdById(postId)
+				.orElseThrow(() -> new BusinessException("게시글을 찾을 수 없습니다."));
+
+		if (!authorId.equals(currentUserId)) {
+			throw new BusinessException.AccessDeniedException("게시글 삭제 권한이 없습니다.");
+		}
+
+		archivedAttachmentRepository.findKeysByPostId(postId).stream()
+				.flatMap(AttachmentKeys::stream)
+				.forEach(key -> registerAfterCommitDeletion(key, true));
+
+		archivedPostRepository.deleteInBulkById(postId);
+		postArchiveService.invalidateCount();
+		contentVersionService.bumpPostAndList(postId);
+	}
+
+	// 보관된 게시글은 읽기 전용이므로 수정/댓글 작성 요청에는 별도 메시지로 응답
+	private BusinessException notFoundOrArchived(Long postId) {
+		if (archivedPostRepository.existsById(postId)) {
+			return new BusinessException("보관된 게시글은 수정하거나 댓글을 작성할 수 없습니다.");
+		}
+		return new BusinessException("게시글을 찾을 수 없습니다.");
+	}
+
+	// LIKE 와일드카드 문자를 일반 문자로 검색하도록 이스케이프 (MySQL 기본 이스케이프 문자: \)
+	private String escapeLike(String keyword) {
+		return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
+	private AttachmentResponse toAttachmentResponse(Attachment attachment) {
+		return new AttachmentResponse(attachment.getId(), attachment.getFileName(), attachment.getS3Key(),
+				s3StorageService.getFileUrl(attachment.getThumbnailS3Key()),
+				s3StorageService.getFileUrl(attachment.getWebS3Key()));
+	}
+
+	// 이미지 파생본(썸네일, 웹 최적화본)도 커밋 이후 함께 삭제
+	private void registerVariantDeletion(Attachment attachment) {
+		if (attachment.getThumbnailS3Key() != null) {
+			registerAfterCommitDeletion(attachment.getThumbnailS3Key(), true);
+		}
+		if (attachment.getWebS3Key() != null) {
+			registerAfterCommitDeletion(attachment.getWebS3Key(), true);
+		}
 	}
 
 	// DB 커밋 완료 후에만 외부 리소스(S3 또는 Redis)를 물리적으로 삭제하는 공통 헬퍼 메서드
@@ -1,14 +1,36 @@
 package lch.domain.post.service;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lch.global.infra.RedisGuard;
+import lch.global.infra.RedisSideEffectQueue;
+
 /*
  * Write-back 전략
  * 조회수가 발생할 때마다 DB에 바로 반영하는 것이 아니라,
  * Redis의 원자적 연산(INCR)으로 빠르게 카운팅한 뒤 스케줄러를 통해 주기적으로 DB에 일괄 반영
+ * Redis 장애(서킷 브레이커 열림)나 큐 포화로 INCR을 보낼 수 없으면 노드 메모리에 증가분을 쌓아 두고,
+ * 스케줄러가 Redis 상태와 무관하게 다음 주기에 DB로 반영
+ * 증가할 때 게시글 ID를 샤드별 dirty 집합(post:view:dirty:{postId % shards})에도 넣어, 반영할 때 전체 키를 훑지 않고
+ * 샤드 단위로 나누어 처리할 수 있도록 함 (샤드 분배는 ViewCountScheduler 참고)
  */
 
 // Redis에서 조회수를 관리하는 서비스
@@ -16,30 +38,199 @@ import org.springframework.stereotype.Service;
 @Service
 public class RedisViewCountService {
     private final StringRedisTemplate redisTemplate;
+    private final RedisSideEffectQueue sideEffectQueue;
+    private final RedisGuard redisGuard;
     private static final String VIEW_COUNT_PREFIX = "post:view:count:";
+    private static final String DIRTY_PREFIX = "post:view:dirty:";
+    private static final String LEASE_PREFIX = "post:view:lease:";
+
+    // Redis로 보내지 못한 증가분 (키: Redis와 동일한 조회수 키)
+    private final Map<String, LongAdder> localCounts = new ConcurrentHashMap<>();
+
+    private final int shardCount;
+
+    // 증가분이 어디로 갔는지 (redis: 큐로 전송, local: Redis 장애/큐 포화로 노드 메모리에 보관)
+    private final Counter redisIncrements;
+    private final Counter localIncrements;
 
-    public RedisViewCountService(StringRedisTemplate redisTemplate) {
+    public RedisViewCountService(StringRedisTemplate redisTemplate, RedisSideEffectQueue sideEffectQueue, RedisGuard redisGuard,
+                                 MeterRegistry meterRegistry, @Value("${app.view-count.shards}") int shardCount) {
         this.redisTemplate = redisTemplate;
+        this.sideEffectQueue = sideEffectQueue;
+        this.redisGuard = redisGuard;
+        this.shardCount = shardCount;
+        this.redisIncrements = Counter.builder("view.count.increments").tag("target", "redis").register(meterRegistry);
+        this.localIncrements = Counter.builder("view.count.increments").tag("target", "local").register(meterRegistry);
+        Gauge.builder("view.count.local.pending", localCounts,
+                        counts -> counts.values().stream().filter(adder -> adder.sum() > 0).count())
+                .description("DB 반영을 기다리는 로컬 버퍼의 게시글 수")
+                .register(meterRegistry);
     }
 
     // Redis에서 해당 게시글의 조회수 증가 (Atomic 연산)
+    // 응답을 기다리지 않도록 부가 쓰기 큐로 전송하고, 큐가 받아주지 않으면 로컬 버퍼에 기록
     public void increment(Long postId) {
-        redisTemplate.opsForValue().increment(VIEW_COUNT_PREFIX + postId);
+        String key = VIEW_COUNT_PREFIX + postId;
+        String dirtyKey = DIRTY_PREFIX + shardOf(postId);
+        boolean accepted = sideEffectQueue.submit(connection -> {
+            connection.incr(key);
+            connection.sAdd(dirtyKey, String.valueOf(postId));
+        });
+        if (accepted) {
+            redisIncrements.increment();
+        } else {
+            localCounts.computeIfAbsent(key, k -> new LongAdder()).increment();
+            localIncrements.increment();
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // 이번 반영 주기 동안 이름에 해당하는 작업을 맡음 (SET NX PX, 다른 노드가 이미 맡았거나 Redis 장애면 false)
+    // 작업이 끝나도 해제하지 않고 TTL로 만료시켜, 같은 주기에 다른 노드가 같은 작업을 다시 하지 않도록 함
+    public boolean tryLease(String name, String owner, Duration ttl) {
+        return redisGuard.call(() -> Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(LEASE_PREFIX + name, owner, ttl)), () -> false);
+    }
+
+    // 샤드의 dirty 집합에서 게시글 ID를 최대 count개 꺼냄 (SPOP, Redis 장애 시 빈 목록)
+    public List<Long> popDirty(int shard, int count) {
+        List<String> ids = redisGuard.call(() -> redisTemplate.opsForSet().pop(DIRTY_PREFIX + shard, count), List::of);
+        return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+    }
+
+    // 여러 게시글의 조회수를 원자적으로 가져오면서 삭제 (GETDEL 파이프라인 1회)
+    // Redis 장애로 실패하면 빈 결과 (이미 꺼낸 dirty 항목은 전체 스캔에서 다시 찾음)
+    public Map<Long, Long> getAndDeleteCounts(List<Long> postIds) {
+        List<Object> values = redisGuard.call(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            postIds.forEach(id -> stringConnection.getDel(VIEW_COUNT_PREFIX + id));
+            return null;
+        }), List::of);
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) != null) {
+                counts.put(postIds.get(i), Long.parseLong(values.get(i).toString()));
+            }
+        }
+        return counts;
+    }
+
+    // 게시글들의 미동기화 조회수(Redis + 로컬 버퍼)를 꺼내 합산 (Redis는 GETDEL, 로컬 버퍼는 sumThenReset)
+    // 스케줄러와 같은 방식으로 꺼내므로 같은 증가분이 양쪽에서 중복 반영되지 않음 (보관 이관에서 사용)
+    public Map<Long, Long> takeCounts(List<Long> postIds) {
+        Map<Long, Long> counts = new HashMap<>(getAndDeleteCounts(postIds));
+        for (Long postId : postIds) {
+            LongAdder local = localCounts.get(VIEW_COUNT_PREFIX + postId);
+            long count = local != null ? local.sumThenReset() : 0L;
+            if (count > 0) {
+                counts.merge(postId, count, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    // 모든 샤드의 dirty 집합 크기 합계 (SCARD 파이프라인 1회, Redis 장애 시 -1)
+    // 다음 반영 주기에 처리해야 할 게시글 수로, 반영이 밀리고 있는지 판단하는 지표
+    public long countDirty() {
+        List<Object> sizes = redisGuard.call(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int shard = 0; shard < shardCount; shard++) {
+                stringConnection.sCard(DIRTY_PREFIX + shard);
+            }
+            return null;
+        }), () -> null);
+        if (sizes == null) {
+            return -1;
+        }
+        return sizes.stream().mapToLong(size -> size != null ? ((Number) size).longValue() : 0L).sum();
     }
 
-    // 스케줄러가 읽어갈 모든 조회수 키 목록 조회
-    public Set<String> getKeys() {
-        return redisTemplate.keys(VIEW_COUNT_PREFIX + "*");
+    // 모든 조회수 키를 SCAN으로 조회 (KEYS와 달리 Redis를 오래 막지 않음, Redis 장애 시 빈 목록)
+    // dirty 집합에 들어가지 못한 카운터(샤드 수 변경, 부분 실패 등)를 주기적으로 회수하는 용도
+    public Set<Long> scanCountedPostIds() {
+        return redisGuard.call(() -> {
+            Set<Long> postIds = new HashSet<>();
+            ScanOptions options = ScanOptions.scanOptions().match(VIEW_COUNT_PREFIX + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                cursor.forEachRemaining(key -> postIds.add(Long.parseLong(key.substring(VIEW_COUNT_PREFIX.length()))));
+            }
+            return postIds;
+        }, Set::of);
     }
 
-    // 특정 키의 조회수 값을 가져옴
+    // 특정 키의 미동기화 조회수 (Redis 값 + 로컬 버퍼, Redis 장애 시 로컬 버퍼만)
     public Long getCount(String key) {
-        String val = redisTemplate.opsForValue().get(key);
-        return val != null ? Long.parseLong(val) : 0L;
+        String val = redisGuard.call(() -> redisTemplate.opsForValue().get(key), () -> null);
+        long redisCount = val != null ? Long.parseLong(val) : 0L;
+        LongAdder local = localCounts.get(key);
+        return redisCount + (local != null ? local.sum() : 0L);
+    }
+
+    // 여러 게시글의 미동기화 조회수를 MGET 한 번으로 조회 (반환 배열은 postIds 순서)
+    public long[] getCounts(List<Long> postIds) {
+        List<String> keys = postIds.stream().map(id -> VIEW_COUNT_PREFIX + id).toList();
+        List<String> values = keys.isEmpty() ? List.of()
+                : redisGuard.call(() -> redisTemplate.opsForValue().multiGet(keys), () -> null);
+
+        long[] counts = new long[keys.size()];
+        for (int i = 0; i < counts.length; i++) {
+            String val = values != null && i < values.size() ? values.get(i) : null;
+            LongAdder local = localCounts.get(keys.get(i));
+            counts[i] = (val != null ? Long.parseLong(val) : 0L) + (local != null ? local.sum() : 0L);
+        }
+        return counts;
+    }
+
+    // 로컬 버퍼를 비우고 지금까지 쌓인 증가분을 반환 (스케줄러가 DB에 반영)
+    // 항목을 맵에서 빼지 않고 sumThenReset으로 0으로 되돌림: 빼낸 뒤 합계를 읽으면 그 사이 다른 스레드가
+    // 이미 꺼낸 LongAdder에 더한 증가분이 사라짐 (항목 수는 장애 중 조회된 게시글 수로 제한되며 delete()로 정리)
+    public Map<String, Long> drainLocalCounts() {
+        Map<String, Long> drained = new HashMap<>();
+        localCounts.forEach((key, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                drained.put(key, count);
+            }
+        });
+        return drained;
+    }
+
+    // DB 반영에 실패해 이미 꺼낸(GETDEL) 증가분을 되돌림: 다시 INCRBY하고 dirty 집합에 넣어 다음 주기에 반영
+    // 이때 Redis도 쓸 수 없으면 로컬 버퍼에 보관
+    public void restoreCounts(Map<Long, Long> deltas) {
+        boolean restored = redisGuard.call(() -> {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                deltas.forEach((postId, count) -> {
+                    stringConnection.incrBy(VIEW_COUNT_PREFIX + postId, count);
+                    stringConnection.sAdd(DIRTY_PREFIX + shardOf(postId), String.valueOf(postId));
+                });
+                return null;
+            });
+            return true;
+        }, () -> false);
+        if (!restored) {
+            restoreLocalCounts(deltas);
+        }
+    }
+
+    // drainLocalCounts()로 꺼낸 증가분을 DB에 반영하지 못했을 때 로컬 버퍼로 되돌림
+    public void restoreLocalCounts(Map<Long, Long> deltas) {
+        deltas.forEach((postId, count) ->
+                localCounts.computeIfAbsent(VIEW_COUNT_PREFIX + postId, k -> new LongAdder()).add(count));
+    }
+
+    private int shardOf(Long postId) {
+        return (int) Math.floorMod(postId, (long) shardCount);
     }
 
     // DB 반영 완료 후 Redis 데이터 삭제
     public void delete(String key) {
-        redisTemplate.delete(key);
+        localCounts.remove(key);
+        redisGuard.run(() -> redisTemplate.delete(key));
     }
-}
\ No newline at end of file
+}
@@ -3,42 +3,75 @@ package lch.domain.post.service;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lch.global.infra.RedisGuard;
+import lch.global.infra.RedisSideEffectQueue;
+
 @Service
 public class SearchService {
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisSideEffectQueue sideEffectQueue;
+    private final RedisGuard redisGuard;
     private static final String SEARCH_HISTORY_PREFIX = "search:history:";
 
-    public SearchService(StringRedisTemplate redisTemplate) {
+    // 기동 워밍업의 가상 사용자 (검색 경로만 컴파일하고 검색 기록은 남기지 않음)
+    private final Long warmUpUserId;
+
+    private final Counter historyQueued;
+    private final Counter historySkipped;
+    private final Timer historyReads;
+
+    public SearchService(StringRedisTemplate redisTemplate, RedisSideEffectQueue sideEffectQueue, RedisGuard redisGuard,
+                         MeterRegistry meterRegistry, @Value("${app.warm-up.user-id}") Long warmUpUserId) {
         this.redisTemplate = redisTemplate;
+        this.sideEffectQueue = sideEffectQueue;
+        this.redisGuard = redisGuard;
+        this.warmUpUserId = warmUpUserId;
+        this.historyQueued = Counter.builder("search.history.writes").tag("result", "queued").register(meterRegistry);
+        this.historySkipped = Counter.builder("search.history.writes").tag("result", "skipped").register(meterRegistry);
+        this.historyReads = Timer.builder("search.history.reads").register(meterRegistry);
     }
 
     // 최근 검색어 저장 (최근 10개 유지)
+    // 검색 응답과 무관한 기록이므로 부가 쓰기 큐에 넣고 바로 반환 (검색 쿼리 전에 Redis 왕복을 기다리지 않음)
+    // Redis 장애로 큐가 거절하면 기록은 남기지 않음
+    // 워밍업 사용자의 기록은 큐에 넣지 않음: 워밍업이 끝난 뒤 삭제하면 큐에 남아 있던 ZADD가 나중에 다시 기록을 만듦
     public void saveKeyword(Long userId, String keyword) {
+        if (warmUpUserId.equals(userId)) {
+            return;
+        }
         String key = SEARCH_HISTORY_PREFIX + userId;
         double score = System.currentTimeMillis();
 
-        // ZSET: 동일 키워드 입력 시 스코어(시간)만 업데이트되어 중복 방지 및 순서 유지
-        redisTemplate.opsForZSet().add(key, keyword, score);
+        boolean queued = sideEffectQueue.submit(connection -> {
+            // ZSET: 동일 키워드 입력 시 스코어(시간)만 업데이트되어 중복 방지 및 순서 유지
+            connection.zAdd(key, score, keyword);
 
-        // 10개 초과 시 오래된 순서(인덱스 0번부터)대로 삭제
-        redisTemplate.opsForZSet().removeRange(key, 0, -11);
+            // 10개 초과 시 오래된 순서(인덱스 0번부터)대로 삭제
+            connection.zRemRange(key, 0, -11);
+        });
+        (queued ? historyQueued : historySkipped).increment();
     }
 
-    // 최근 검색어 목록 조회 (최신순)
+    // 최근 검색어 목록 조회 (최신순, Redis 장애 시 빈 목록)
     public List<String> getHistory(Long userId) {
         String key = SEARCH_HISTORY_PREFIX + userId;
         // 스코어 역순(최신순)으로 10개 조회
-        Set<String> history = redisTemplate.opsForZSet().reverseRange(key, 0, 9);
+        Set<String> history = historyReads.record(
+                () -> redisGuard.call(() -> redisTemplate.opsForZSet().reverseRange(key, 0, 9), Set::of));
 
         return history != null ? history.stream().toList() : List.of();
     }
 
     // 검색 기록 전체 삭제 (로그아웃 연동용)
     public void clearHistory(Long userId) {
-        redisTemplate.delete(SEARCH_HISTORY_PREFIX + userId);
+        redisGuard.run(() -> redisTemplate.delete(SEARCH_HISTORY_PREFIX + userId));
     }
 }
\ No newline at end of file
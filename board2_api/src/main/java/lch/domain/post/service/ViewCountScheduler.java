@@ -1,46 +1,180 @@
 package lch.domain.post.service;
 
-import java.util.Set;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
-import org.springframework.data.redis.core.StringRedisTemplate; // 추가
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import lch.domain.post.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lch.domain.post.repository.PostStatsRepository;
+
+/*
+ * Redis 조회수를 DB(post_stats)로 반영하는 스케줄러 (모든 노드에서 같은 시각에 실행)
+ * 게시글 ID를 샤드로 나누고, 노드마다 서로 다른 샤드부터 임대(lease)를 시도하여 먼저 잡은 노드가 그 샤드를 처리
+ * 임대는 한 주기보다 짧은 TTL로 유지되므로 주기마다 샤드당 정확히 한 노드만 반영하고, 노드 수가 늘면 샤드가 나뉘어 처리량도 늘어남
+ * 값 자체는 GETDEL로 꺼내므로 임대가 만료되어 두 노드가 겹치더라도 같은 증가분이 두 번 반영되지는 않음
+ * (임대는 중복 작업을 막기 위한 분배 수단이며, 정확성은 GETDEL의 원자성에 의존하므로 별도의 펜싱 토큰은 두지 않음)
+ * 증가분은 DB 트랜잭션 전에 Redis/로컬 버퍼에서 꺼내므로, 반영에 실패하면 꺼낸 곳으로 되돌리고 그 샤드는 다음 주기로 미룸
+ */
 
 @Component
 public class ViewCountScheduler {
+    private static final Logger log = LoggerFactory.getLogger(ViewCountScheduler.class);
+
+    private static final String VIEW_COUNT_PREFIX = "post:view:count:";
+
     private final RedisViewCountService redisService;
-    private final PostRepository postRepository;
-    private final StringRedisTemplate redisTemplate;
+    private final PostStatsRepository postStatsRepository;
+    private final ContentVersionService contentVersionService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer syncTimer;
+    private final Counter flushedKeys;
+    // 주기 시작 시점의 dirty 집합 크기 합계 (Redis 장애로 알 수 없으면 -1)
+    private final AtomicLong backlog = new AtomicLong();
+    // 이 노드가 마지막으로 주기를 끝낸 시각, 게이지는 그로부터 지난 시간(초)을 보고
+    private final AtomicLong lastSyncedAt = new AtomicLong(System.currentTimeMillis());
+
+    // 임대 소유자 표시 (로그/디버깅용)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${app.view-count.lease-ttl}")
+    private Duration leaseTtl;
+
+    @Value("${app.view-count.sweep-interval}")
+    private Duration sweepInterval;
+
+    @Value("${app.view-count.pop-batch-size}")
+    private int popBatchSize;
 
-    public ViewCountScheduler(RedisViewCountService redisService, PostRepository postRepository, StringRedisTemplate redisTemplate) {
+    public ViewCountScheduler(RedisViewCountService redisService, PostStatsRepository postStatsRepository,
+                              ContentVersionService contentVersionService, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
         this.redisService = redisService;
-        this.postRepository = postRepository;
-        this.redisTemplate = redisTemplate;
+        this.postStatsRepository = postStatsRepository;
+        this.contentVersionService = contentVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.syncTimer = Timer.builder("view.count.flush.duration")
+                .description("조회수 반영 한 주기(로컬 버퍼 + 임대한 샤드 + 스윕)에 걸린 시간")
+                .register(meterRegistry);
+        this.flushedKeys = Counter.builder("view.count.flushed.keys")
+                .description("DB에 반영한 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("view.count.backlog", backlog, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("view.count.flush.lag", lastSyncedAt, at -> (System.currentTimeMillis() - at.get()) / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
     }
 
     @Scheduled(cron = "0 0/5 * * * *")
-    @Transactional
     public void syncToDb() {
-        Set<String> keys = redisService.getKeys();
-        if (keys == null || keys.isEmpty()) {
-            return;
-        }
+        backlog.set(redisService.countDirty());
+        syncTimer.record(this::sync);
+        lastSyncedAt.set(System.currentTimeMillis());
+    }
 
-        for (String key : keys) {
-            // 원자적으로 값을 가져오고 동시에 삭제하여 유실 방지 (논리 오류 1-2 해결)
-            String val = redisTemplate.opsForValue().getAndDelete(key);
-            if (val == null) {
+    private void sync() {
+        // Redis 장애 동안 노드 메모리에 쌓인 증가분은 Redis 복구 여부와 관계없이 바로 DB에 반영
+        Map<Long, Long> localDeltas = new HashMap<>();
+        redisService.drainLocalCounts().forEach((key, count) -> localDeltas.merge(toPostId(key), count, Long::sum));
+        long flushed = Math.max(0, flush(localDeltas, redisService::restoreLocalCounts));
+
+        // 노드마다 시작 샤드를 다르게 하여 동시에 시작해도 임대 경쟁 없이 샤드가 나뉘도록 함
+        int shards = redisService.getShardCount();
+        int offset = Math.floorMod(nodeId.hashCode(), shards);
+        int claimed = 0;
+        for (int i = 0; i < shards; i++) {
+            int shard = (offset + i) % shards;
+            if (!redisService.tryLease("shard:" + shard, nodeId, leaseTtl)) {
                 continue;
             }
+            claimed++;
+            flushed += flushShard(shard);
+        }
 
-            // 프리픽스 제거 로직 개선 (단순 인덱스 기반보다 안전)
-            Long postId = Long.parseLong(key.replace("post:view:count:", ""));
+        // dirty 집합에 없는 카운터 회수는 한 노드만 sweep-interval마다 수행
+        if (redisService.tryLease("sweep", nodeId, sweepInterval)) {
+            flushed += sweep();
+        }
 
-            // Native Query 호출: 1차 캐시 문제 없이 DB 수준에서 즉시 합산
-            postRepository.addViewCountNative(postId, Long.parseLong(val));
+        if (flushed > 0) {
+            // 목록에는 여러 게시글의 조회수가 보이므로 주기마다 한 번만 버전을 올림
+            contentVersionService.bumpList();
         }
+        log.debug("조회수 반영: 샤드 {}/{}개 처리, 게시글 {}건", claimed, shards, flushed);
+    }
+
+    private long flushShard(int shard) {
+        long flushed = 0;
+        while (true) {
+            List<Long> postIds = redisService.popDirty(shard, popBatchSize);
+            if (postIds.isEmpty()) {
+                return flushed;
+            }
+            long count = flush(redisService.getAndDeleteCounts(postIds), redisService::restoreCounts);
+            if (count < 0) {
+                // 되돌린 항목이 dirty 집합에 다시 들어가므로 이번 주기에는 더 꺼내지 않음
+                return flushed;
+            }
+            flushed += count;
+        }
+    }
+
+    private long sweep() {
+        List<Long> postIds = new ArrayList<>(redisService.scanCountedPostIds());
+        long flushed = 0;
+        for (int from = 0; from < postIds.size(); from += popBatchSize) {
+            List<Long> batch = postIds.subList(from, Math.min(from + popBatchSize, postIds.size()));
+            long count = flush(redisService.getAndDeleteCounts(batch), redisService::restoreCounts);
+            if (count < 0) {
+                return flushed;
+            }
+            flushed += count;
+        }
+        return flushed;
+    }
+
+    // 배치마다 짧은 트랜잭션으로 반영 (샤드 전체를 하나의 트랜잭션으로 묶어 행 잠금을 오래 잡지 않도록)
+    // 반영한 게시글 수를 반환하고, 실패하면 restore로 증가분을 되돌린 뒤 -1 반환
+    private long flush(Map<Long, Long> deltas, Consumer<Map<Long, Long>> restore) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // posts 행(updated_at 포함)은 건드리지 않고 post_stats에 증가분만 한 번의 JDBC 배치로 합산
+                postStatsRepository.addViewCounts(deltas);
+
+                // 조회수는 ETag에 포함하지 않으므로, 반영할 때마다 버전을 올려 캐시된 응답의 조회수가 한 주기 이상 뒤처지지 않도록 함
+                contentVersionService.bumpPosts(deltas.keySet());
+            });
+        } catch (RuntimeException e) {
+            restore.accept(deltas);
+            log.warn("조회수 DB 반영 실패, 게시글 {}건의 증가분을 되돌리고 다음 주기에 다시 반영합니다.", deltas.size(), e);
+            return -1;
+        }
+        flushedKeys.increment(deltas.size());
+        return deltas.size();
+    }
+
+    // 프리픽스 제거 로직 개선 (단순 인덱스 기반보다 안전)
+    // ViewCountKeyBenchmark가 같은 패키지에서 파싱 비용을 측정함
+    static Long toPostId(String key) {
+        return Long.parseLong(key.replace(VIEW_COUNT_PREFIX, ""));
     }
-}
\ No newline at end of file
+}
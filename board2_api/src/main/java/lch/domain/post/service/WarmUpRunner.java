@@ -0,0 +1,192 @@
+package lch.domain.post.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lch.domain.post.dto.PostListResponse;
+import lch.global.infra.RedisGuard;
+import lch.global.security.JwtProvider;
+
+/*
+ * 기동 직후 워밍업 (readiness 전환 전에 실행)
+ * Spring Boot는 모든 ApplicationRunner가 끝난 뒤에 ReadinessState를 ACCEPTING_TRAFFIC으로 바꾸므로,
+ * 이 러너가 끝나거나 제한 시간이 지날 때까지 readiness(/readyz)는 OUT_OF_SERVICE로 남아 트래픽을 받지 않음
+ * 1. 데이터: 최신 게시글 상세(작성자 닉네임 캐시 포함)와 미리 직렬화한 상세 응답을 채움 (조회수는 올리지 않음)
+ * 2. JIT: 임시 토큰으로 루프백 HTTP 요청(목록, 304 재검증, 검색, 검색 기록)을 반복하여 필터/보안/직렬화 경로를 컴파일시킴
+ * 워밍업이 실패하거나 시간을 넘겨도 기동은 계속 진행 (캐시가 차지 않은 상태로 서비스하는 것과 같음)
+ */
+
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    private final PostService postService;
+    private final PostJsonCache postJsonCache;
+    private final ContentVersionService contentVersionService;
+    private final JwtProvider jwtProvider;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisGuard redisGuard;
+    private final Environment environment;
+
+    @Value("${app.warm-up.enabled}")
+    private boolean enabled;
+
+    @Value("${app.warm-up.timeout}")
+    private Duration timeout;
+
+    @Value("${app.warm-up.hot-posts}")
+    private int hotPosts;
+
+    @Value("${app.warm-up.list-pages}")
+    private int listPages;
+
+    @Value("${app.warm-up.iterations}")
+    private int iterations;
+
+    @Value("${app.warm-up.user-id}")
+    private Long warmUpUserId;
+
+    @Value("${app.token.redis-prefix}")
+    private String redisTokenPrefix;
+
+    public WarmUpRunner(PostService postService, PostJsonCache postJsonCache, ContentVersionService contentVersionService,
+                        JwtProvider jwtProvider, StringRedisTemplate redisTemplate,
+                        RedisGuard redisGuard, Environment environment) {
+        this.postService = postService;
+        this.postJsonCache = postJsonCache;
+        this.contentVersionService = contentVersionService;
+        this.jwtProvider = jwtProvider;
+        this.redisTemplate = redisTemplate;
+        this.redisGuard = redisGuard;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("warm-up").factory());
+        try {
+            Future<?> warmUp = executor.submit(() -> {
+                preloadHotPosts();
+                driveRequests();
+                return null;
+            });
+            warmUp.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            log.info("워밍업 완료: {}ms", System.currentTimeMillis() - start);
+        } catch (TimeoutException e) {
+            log.warn("워밍업 제한 시간({}) 초과, 중단하고 트래픽 수신을 시작합니다.", timeout);
+        } catch (Exception e) {
+            log.warn("워밍업 중 오류가 발생했지만 기동을 계속합니다: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 최신 게시글 상세를 DB에서 읽어 닉네임 캐시와 직렬화 응답 캐시를 채움
+    private void preloadHotPosts() {
+        List<PostListResponse> newest = postService.getPostListSnapshot(
+                PageRequest.of(0, hotPosts, Sort.by("createdAt").descending())).getContent();
+
+        for (PostListResponse post : newest) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            // 목록에서 읽은(존재가 확인된) 게시글이므로 버전이 없으면 만듦
+            ContentVersionService.Validator validator = contentVersionService.initPostValidator(post.id());
+            if (validator != null) {
+                postJsonCache.preloadDetail(post.id(), validator.etag(), () -> postService.getPostSnapshot(post.id()));
+            } else {
+                postService.getPostSnapshot(post.id());
+            }
+        }
+        log.info("워밍업: 최신 게시글 {}건 상세 캐시 적재", newest.size());
+    }
+
+    // 워밍업 전용 토큰을 Redis에 잠시 등록하고 주요 조회 API를 루프백으로 반복 호출
+    private void driveRequests() throws InterruptedException {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        String jwt = jwtProvider.createToken(warmUpUserId, "ROLE_USER");
+        boolean registered = redisGuard.call(() -> {
+            redisTemplate.opsForValue().set(redisTokenPrefix + token, jwt, timeout);
+            return true;
+        }, () -> false);
+        if (!registered) {
+            log.warn("Redis를 사용할 수 없어 요청 워밍업을 생략합니다.");
+            return;
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        String base = "http://localhost:" + port;
+        int sent = 0;
+        try {
+            for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+                HttpResponse<Void> list = send(client, base + "/posts?page=" + (i % listPages) + "&size=10", token, null);
+                sent++;
+                // 같은 목록을 ETag로 다시 요청하여 304 경로도 함께 컴파일
+                String etag = list != null ? list.headers().firstValue("ETag").orElse(null) : null;
+                if (etag != null) {
+                    send(client, base + "/posts?page=" + (i % listPages) + "&size=10", token, etag);
+                    sent++;
+                }
+                // 검색은 요청 제한 버킷을 소진하지 않도록 일부 반복에서만 호출
+                if (i % 20 == 0) {
+                    send(client, base + "/posts/search?keyword=warmup", token, null);
+                    send(client, base + "/posts/search/history", token, null);
+                    sent += 2;
+                }
+            }
+        } finally {
+            redisGuard.run(() -> redisTemplate.delete(redisTokenPrefix + token));
+        }
+        log.info("워밍업: 루프백 요청 {}건 전송", sent);
+    }
+
+    private HttpResponse<Void> send(HttpClient client, String url, String token, String ifNoneMatch)
+            throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(5))
+                .header("Authorization", "Bearer " + token)
+                .GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        try {
+            return client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            log.debug("워밍업 요청 실패 [{}]: {}", url, e.getMessage());
+            return null;
+        }
+    }
+}
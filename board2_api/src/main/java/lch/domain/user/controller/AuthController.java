@@ -17,9 +17,8 @@ import jakarta.validation.Valid;
 import lch.domain.user.dto.LoginRequest;
 import lch.domain.user.dto.MyInfoResponse;
 import lch.domain.user.dto.RegisterRequest;
-import lch.domain.user.entity.User;
-import lch.domain.user.repository.UserRepository;
 import lch.domain.user.service.AuthService;
+import lch.domain.user.service.UserCacheService;
 import lch.global.error.ApiResponse;
 import lch.global.security.CookieUtils;
 import lch.global.security.LoginUser;
@@ -30,11 +29,11 @@ import lch.global.security.LoginUser;
 public class AuthController {
 
     private final AuthService authService;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
 
-    public AuthController(AuthService authService, UserRepository userRepository) {
+    public AuthController(AuthService authService, UserCacheService userCacheService) {
         this.authService = authService;
-        this.userRepository = userRepository;
+        this.userCacheService = userCacheService;
     }
 
     @Operation(summary = "로컬 회원가입", description = "아이디, 이메일, 비밀번호 등을 입력받아 회원가입을 진행합니다.")
@@ -96,13 +95,13 @@ public class AuthController {
     public ResponseEntity<ApiResponse<MyInfoResponse>> getMyInfo(
             @Parameter(hidden = true) @LoginUser Long currentUserId) {
 
-        // 1. SecurityContext에서 꺼낸 PK로 DB에서 실제 유저 정보를 조회합니다.
+        // 1. SecurityContext에서 꺼낸 PK로 유저의 닉네임을 조회합니다. (Redis 캐시 우선, 없으면 DB)
         // 실무에서는 예외 처리를 GlobalExceptionHandler와 연동된 Custom Exception으로 던지는 것이 좋습니다.
-        User user = userRepository.findById(currentUserId)
+        String nickname = userCacheService.findNickname(currentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
 
         // 2. 조회한 유저 정보로 응답용 DTO를 생성합니다.
-        MyInfoResponse responseData = new MyInfoResponse(user.getId(), user.getNickname());
+        MyInfoResponse responseData = new MyInfoResponse(currentUserId, nickname);
 
         // 3. 클라이언트에게 반환합니다.
         return ResponseEntity.ok(
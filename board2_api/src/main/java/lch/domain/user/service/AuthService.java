@@ -15,6 +15,7 @@ import lch.domain.user.entity.User;
 import lch.domain.user.repository.UserRepository;
 import lch.global.error.BusinessException;
 import lch.global.security.JwtProvider;
+import lch.global.security.PhantomTokenFilter;
 
 
 @Service
@@ -24,6 +25,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final StringRedisTemplate redisTemplate;
     private final JwtProvider jwtProvider;
+    private final PhantomTokenFilter phantomTokenFilter;
 
     @Value("${app.token.expiration-hours}")
     private long tokenExpirationHours;
@@ -32,11 +34,12 @@ public class AuthService {
     private String redisTokenPrefix;
 
     public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-    					StringRedisTemplate redisTemplate, JwtProvider jwtProvider) {
+    					StringRedisTemplate redisTemplate, JwtProvider jwtProvider, PhantomTokenFilter phantomTokenFilter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.redisTemplate = redisTemplate;
         this.jwtProvider = jwtProvider;
+        this.phantomTokenFilter = phantomTokenFilter;
     }
 
     @Transactional
@@ -106,6 +109,8 @@ public class AuthService {
         // Redis에 저장된 "auth:token:UUID" 키를 삭제하여 세션 무효화
         String redisKey = redisTokenPrefix + token;
         redisTemplate.delete(redisKey);
+        // 이후 Redis 장애가 나도 이 노드가 장애 대비 캐시로 다시 인증하지 않도록 함께 제거
+        phantomTokenFilter.forget(token);
 
         // 검색 기록 삭제
         redisTemplate.delete("search:history:" + userId);
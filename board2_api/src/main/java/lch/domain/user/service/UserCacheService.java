@@ -1,37 +1,71 @@
 package lch.domain.user.service;
 
-import java.time.Duration;
+import java.util.Optional;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lch.domain.user.entity.User;
 import lch.domain.user.repository.UserRepository;
+import lch.global.infra.RedisGuard;
+import lch.global.infra.RedisSideEffectQueue;
+
+/*
+ * 사용자 닉네임 캐시 (Redis, Cache-aside)
+ * 목록/상세의 작성자 닉네임뿐 아니라 글/댓글 작성과 내 정보 조회의 사용자 확인도 이 캐시로 처리하여
+ * 요청마다 users 테이블을 조회하지 않음
+ * 닉네임은 가입 후 바뀌지 않고 사용자도 삭제되지 않으므로 별도 무효화 없이 TTL로만 만료시키며,
+ * 존재하지 않는 사용자는 캐시하지 않음 (이후 같은 ID로 가입해도 "알 수 없는 사용자"가 남지 않도록)
+ */
 
 @Service
 public class UserCacheService {
+    private static final long NICKNAME_TTL_SECONDS = 3600;
+    private static final String UNKNOWN_USER = "알 수 없는 사용자";
+
     private final StringRedisTemplate redisTemplate;
     private final UserRepository userRepository;
+    private final RedisGuard redisGuard;
+    private final RedisSideEffectQueue sideEffectQueue;
+
+    // 적중률 = hit / (hit + miss), miss에는 Redis 장애로 DB에서 읽은 경우도 포함
+    private final Counter hits;
+    private final Counter misses;
 
-    public UserCacheService(StringRedisTemplate redisTemplate, UserRepository userRepository) {
+    public UserCacheService(StringRedisTemplate redisTemplate, UserRepository userRepository,
+                            RedisGuard redisGuard, RedisSideEffectQueue sideEffectQueue, MeterRegistry meterRegistry) {
         this.redisTemplate = redisTemplate;
         this.userRepository = userRepository;
+        this.redisGuard = redisGuard;
+        this.sideEffectQueue = sideEffectQueue;
+        this.hits = Counter.builder("user.nickname.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("user.nickname.cache").tag("result", "miss").register(meterRegistry);
     }
 
-    // Cache-aside: 유저 닉네임 조회 시 캐싱 적용
+    // 표시용 닉네임 (없는 사용자는 "알 수 없는 사용자")
     public String getUserNickname(Long userId) {
+        return findNickname(userId).orElse(UNKNOWN_USER);
+    }
+
+    // 사용자가 존재하면 닉네임, 없으면 빈 값
+    // Redis 장애 시에는 DB 조회로 대체
+    public Optional<String> findNickname(Long userId) {
         String cacheKey = "user:nickname:" + userId;
-        String cachedNickname = redisTemplate.opsForValue().get(cacheKey);
+        String cachedNickname = redisGuard.call(() -> redisTemplate.opsForValue().get(cacheKey), () -> null);
 
         if (cachedNickname != null) {
-			return cachedNickname;
-		}
+            hits.increment();
+            return Optional.of(cachedNickname);
+        }
+        misses.increment();
 
-        String nickname = userRepository.findById(userId)
-                .map(user -> user.getNickname())
-                .orElse("알 수 없는 사용자");
+        Optional<String> nickname = userRepository.findById(userId).map(User::getNickname);
 
-        // 1시간 동안 캐싱
-        redisTemplate.opsForValue().set(cacheKey, nickname, Duration.ofHours(1));
+        // 1시간 동안 캐싱 (캐시 채우기는 응답과 무관하므로 부가 쓰기 큐로 전송)
+        nickname.ifPresent(value ->
+                sideEffectQueue.submit(connection -> connection.setEx(cacheKey, NICKNAME_TTL_SECONDS, value)));
         return nickname;
     }
-}
\ No newline at end of file
+}
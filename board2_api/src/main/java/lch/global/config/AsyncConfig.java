@@ -0,0 +1,29 @@
+package lch.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 요청 스레드와 분리하여 실행할 백그라운드 작업용 스레드 풀 설정
+
+@Configuration
+public class AsyncConfig {
+
+    // 이미지 리사이즈는 CPU/메모리를 많이 쓰므로 스레드 수와 대기열 크기를 모두 제한
+    // 대기열이 가득 차면 작업을 거절하고, 거절된 작업은 DB의 PENDING 상태로 남아 스윕 단계에서 다시 처리됨
+    // CPU 작업이므로 가상 스레드 모드(spring.threads.virtual.enabled)에서도 플랫폼 스레드 풀을 그대로 사용
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${app.image.worker-threads}") int workerThreads,
+            @Value("${app.image.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,91 @@
+package lch.global.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+import lch.global.infra.ReadYourWritesTracker;
+import lch.global.infra.ReplicaLagMonitor;
+import lch.global.infra.ReplicationRoutingDataSource;
+import lch.global.infra.SqlStatsListener;
+
+/*
+ * Primary(쓰기) / Read Replica(읽기) 분리 설정
+ * 레플리카 URL을 지정하지 않으면 모든 쿼리가 Primary로 전송되며,
+ * 로컬에서는 DB_REPLICA_URLS에 Primary와 같은 URL을 넣어 하나의 MySQL로 라우팅 동작을 확인할 수 있음
+ */
+
+@Configuration
+public class DataSourceConfig {
+
+    // spring.datasource.hikari.* 설정(풀 크기, 드라이버 속성 등)을 Primary/Replica 풀에 공통 적용
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig hikariConfig(@Value("${spring.datasource.url}") String url,
+                                     @Value("${spring.datasource.username}") String username,
+                                     @Value("${spring.datasource.password}") String password,
+                                     @Value("${spring.datasource.driver-class-name}") String driverClassName) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setDriverClassName(driverClassName);
+        return config;
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(HikariConfig hikariConfig,
+                                                          @Value("${app.datasource.replica.urls:}") List<String> replicaUrls,
+                                                          @Value("${app.datasource.replica.max-lag-seconds}") long maxLagSeconds,
+                                                          ReadYourWritesTracker readYourWritesTracker) {
+        HikariConfig primaryConfig = new HikariConfig();
+        hikariConfig.copyStateTo(primaryConfig);
+        primaryConfig.setPoolName("primary");
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig replicaConfig = new HikariConfig();
+            hikariConfig.copyStateTo(replicaConfig);
+            replicaConfig.setJdbcUrl(replicaUrls.get(i).trim());
+            replicaConfig.setPoolName("replica-" + i);
+            replicaConfig.setReadOnly(true);
+            replicas.put(replicaConfig.getPoolName(), new HikariDataSource(replicaConfig));
+        }
+
+        return new ReplicationRoutingDataSource(new HikariDataSource(primaryConfig), replicas, maxLagSeconds, readYourWritesTracker);
+    }
+
+    // 레플리카 지연 점검(@Scheduled)이 동작하도록 빈으로 등록
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicationRoutingDataSource routingDataSource) {
+        return routingDataSource.getLagMonitor();
+    }
+
+    // JPA/Flyway가 사용하는 DataSource
+    // 트랜잭션 시작 시점이 아닌 첫 쿼리 실행 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있음
+    // 가장 바깥에서 모든 SQL 실행을 계측 (요청별 실행 횟수/DB 시간, N+1 탐지, 느린 쿼리 로그)
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource, MeterRegistry meterRegistry,
+                                 @Value("${app.sql-stats.slow-query-ms}") long slowQueryMillis) {
+        return ProxyDataSourceBuilder.create(new LazyConnectionDataSourceProxy(routingDataSource))
+                .name("board2")
+                .listener(new SqlStatsListener(meterRegistry, slowQueryMillis))
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package lch.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 기동 시 마이그레이션 실행 여부 설정
+// spring.flyway.enabled는 조건부 빈 구성이라 AOT 모드에서는 빌드 시점 값으로 고정되므로,
+// 실행 시점에 바꿀 수 있는 app.flyway.migrate-on-startup으로 마이그레이션만 건너뜀 (AppCDS 학습 실행처럼 DB가 없는 경우)
+
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${app.flyway.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            }
+        };
+    }
+}
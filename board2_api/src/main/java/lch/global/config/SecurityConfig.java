@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -25,12 +26,14 @@ import lch.domain.user.oauth2.OAuth2SuccessHandler;
 import lch.domain.user.service.CustomOAuth2UserService;
 import lch.global.security.HttpCookieOAuth2AuthorizationRequestRepository;
 import lch.global.security.PhantomTokenFilter;
+import lch.global.security.RateLimitFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final PhantomTokenFilter phantomTokenFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final HttpCookieOAuth2AuthorizationRequestRepository cookieAuthorizationRequestRepository;
@@ -41,11 +44,13 @@ public class SecurityConfig {
     private List<String> frontendUrls;
 
     public SecurityConfig(PhantomTokenFilter phantomTokenFilter,
+                          RateLimitFilter rateLimitFilter,
                           CustomOAuth2UserService customOAuth2UserService,
                           OAuth2SuccessHandler oAuth2SuccessHandler,
                           HttpCookieOAuth2AuthorizationRequestRepository cookieAuthorizationRequestRepository,
                           OAuth2FailureHandler oAuth2FailureHandler) {
         this.phantomTokenFilter = phantomTokenFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.customOAuth2UserService = customOAuth2UserService;
         this.oAuth2SuccessHandler = oAuth2SuccessHandler;
         this.cookieAuthorizationRequestRepository = cookieAuthorizationRequestRepository;
@@ -69,6 +74,11 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/auth/register", "/auth/login", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                // 로드밸런서/오케스트레이터의 liveness/readiness 점검 (서비스 포트에 노출되는 health 그룹 경로)
+                .requestMatchers("/livez", "/readyz").permitAll()
+                // actuator 엔드포인트(health, prometheus)는 별도 관리 포트에서만 열림
+                // 관리 포트가 다르면 EndpointRequest는 관리 포트의 요청에만 일치하므로 서비스 포트의 /actuator/**는 인증 필요
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
                 .anyRequest().authenticated()
             )
             .exceptionHandling(ex -> ex
@@ -89,7 +99,9 @@ public class SecurityConfig {
                 .successHandler(oAuth2SuccessHandler)
                 .failureHandler(oAuth2FailureHandler)
             )
-            .addFilterBefore(phantomTokenFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(phantomTokenFilter, UsernamePasswordAuthenticationFilter.class)
+            // 인증 정보가 채워진 뒤에 실행되어야 사용자 단위로 요청 제한 가능
+            .addFilterAfter(rateLimitFilter, PhantomTokenFilter.class);
 
         return http.build();
     }
@@ -106,7 +118,11 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
 
         // 허용할 헤더
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type",
+                "If-None-Match", "If-Modified-Since"));
+
+        // 조건부 요청을 직접 보내는 클라이언트가 검증값을 읽을 수 있도록 노출 (Server-Timing은 느린 요청 신고 시 첨부용)
+        configuration.setExposedHeaders(Arrays.asList("ETag", "Last-Modified", "Server-Timing"));
 
         // 인증 정보 (쿠키, Authorization 헤더 등) 포함 여부 (OAuth2, Session 등에 필수)
         configuration.setAllowCredentials(true);
@@ -0,0 +1,157 @@
+package lch.global.infra;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+ * 엔드포인트 그룹별 적응형 동시 처리 제한 (부하 차단)
+ * 그룹(read/search/write/auth)마다 VegasLimiter를 두어 응답 시간이 늘어나면 한도를 줄이고, 한도를 넘는 요청은
+ * 스레드/커넥션을 잡기 전에 503으로 거절하여 모든 요청이 함께 느려지다 타임아웃되는 상황을 막음
+ * 저렴한 게시글 조회(read)를 우선하기 위해, read 그룹의 사용률이 높으면 search/write 요청을 먼저 거절
+ * 보안 필터 체인보다 앞에서 실행되어 거절된 요청은 토큰 조회(Redis)도 하지 않음
+ * read 그룹에서 DB를 조회하지 않은 요청(304, JSON 응답 캐시 적중)은 응답 시간 표본에서 제외
+ * (1ms 미만의 캐시 응답과 DB 조회가 섞이면 DB 조회 응답 시간이 큐 대기로 보여 한도가 줄어듦)
+ */
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    enum Group {
+        READ, SEARCH, WRITE, AUTH;
+
+        String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final boolean enabled;
+    private final double readPressureThreshold;
+    private final Map<Group, VegasLimiter> limiters = new EnumMap<>(Group.class);
+    private final Map<Group, Counter> limitRejections = new EnumMap<>(Group.class);
+    private final Map<Group, Counter> priorityRejections = new EnumMap<>(Group.class);
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${app.concurrency.enabled}") boolean enabled,
+                                  @Value("${app.concurrency.initial-limit}") int initialLimit,
+                                  @Value("${app.concurrency.min-limit}") int minLimit,
+                                  @Value("${app.concurrency.max-limit}") int maxLimit,
+                                  @Value("${app.concurrency.read-pressure-threshold}") double readPressureThreshold) {
+        this.enabled = enabled;
+        this.readPressureThreshold = readPressureThreshold;
+
+        for (Group group : Group.values()) {
+            VegasLimiter limiter = new VegasLimiter(initialLimit, minLimit, maxLimit);
+            limiters.put(group, limiter);
+
+            Gauge.builder("http.server.concurrency.limit", limiter, VegasLimiter::getLimit)
+                    .description("그룹별 현재 동시 처리 한도")
+                    .tag("group", group.tag())
+                    .register(meterRegistry);
+            Gauge.builder("http.server.concurrency.inflight", limiter, VegasLimiter::getInflight)
+                    .description("그룹별 처리 중인 요청 수")
+                    .tag("group", group.tag())
+                    .register(meterRegistry);
+            limitRejections.put(group, Counter.builder("http.server.concurrency.rejected")
+                    .tag("group", group.tag())
+                    .tag("reason", "limit")
+                    .register(meterRegistry));
+            priorityRejections.put(group, Counter.builder("http.server.concurrency.rejected")
+                    .tag("group", group.tag())
+                    .tag("reason", "priority")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || classify(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Group group = classify(request);
+        VegasLimiter limiter = limiters.get(group);
+
+        // 조회 그룹이 한도에 가까우면 비싼 요청부터 양보
+        if ((group == Group.SEARCH || group == Group.WRITE)
+                && limiters.get(Group.READ).utilization() >= readPressureThreshold) {
+            priorityRejections.get(group).increment();
+            reject(response);
+            return;
+        }
+
+        int inflightAtStart = limiter.getInflight();
+        if (!limiter.tryAcquire()) {
+            limitRejections.get(group).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // 예외로 끝난 요청은 응답 시간이 처리 비용을 나타내지 않으므로 표본에서 제외
+            if (completed && !(group == Group.READ && servedWithoutDb(response))) {
+                limiter.release(System.nanoTime() - start, inflightAtStart + 1);
+            } else {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    // RequestTimingFilter가 먼저 실행되어 요청의 DB 호출 횟수를 집계하고 있음 (비활성화된 경우 304만 판단)
+    private boolean servedWithoutDb(HttpServletResponse response) {
+        if (response.getStatus() == HttpStatus.NOT_MODIFIED.value()) {
+            return true;
+        }
+        RequestTiming timing = RequestTiming.current();
+        return timing != null && timing.count(RequestTiming.Category.DB) == 0;
+    }
+
+    // 관리용 경로(Swagger, actuator 등)는 제한하지 않음
+    private Group classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean get = "GET".equals(request.getMethod());
+
+        if (path.startsWith("/auth/") || path.startsWith("/oauth2/") || path.startsWith("/login/oauth2/")) {
+            return Group.AUTH;
+        }
+        if (path.equals("/posts") || path.startsWith("/posts/")) {
+            if (!get) {
+                return Group.WRITE;
+            }
+            return path.equals("/posts/search") ? Group.SEARCH : Group.READ;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"success\":false,\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\",\"data\":null}");
+    }
+}
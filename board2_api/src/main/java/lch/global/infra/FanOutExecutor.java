@@ -0,0 +1,143 @@
+package lch.global.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * 하나의 요청 안에서 서로 독립적인 조회(DB, Redis 등)를 가상 스레드로 동시에 실행하는 헬퍼
+ * Java 21의 StructuredTaskScope는 프리뷰 API이므로 같은 사용 방식(fork -> join -> close)을 ExecutorService로 구현
+ *  - join(): 모든 작업이 끝날 때까지 대기하며, 하나라도 실패하면 나머지 작업을 즉시 취소(인터럽트)하고 그 예외를 그대로 던짐
+ *  - close(): join 전에 블록을 벗어나면(예외 등) 남은 작업을 모두 취소
+ * 작업 스레드에는 호출 스레드의 인증 정보(Read-your-writes 라우팅), Primary 읽기 여부, SQL 통계/요청 시간 분해(RequestTiming)를 전달하고,
+ * 영속성 컨텍스트는 스레드 간에 공유할 수 없으므로 작업마다 별도의 읽기 전용 트랜잭션(레플리카 라우팅)으로 실행
+ * 커넥션 사용량:
+ *  - 작업마다 커넥션을 하나씩 쥘 수 있으므로 동시에 실행되는 작업 수를 노드 전체에서 풀 크기의 절반으로 제한 (나머지는 쓰기/일반 조회용)
+ *    허가를 기다리는 동안에는 가상 스레드만 대기하고 커넥션은 쥐지 않음
+ *  - 호출 스레드는 fork 전에 트랜잭션(커넥션)을 끝내야 함 (readOnly()로 짧게 조회한 뒤 fork)
+ */
+
+@Component
+public class FanOutExecutor implements DisposableBean {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore connectionPermits;
+
+    public FanOutExecutor(PlatformTransactionManager transactionManager,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.connectionPermits = new Semaphore(Math.max(1, maximumPoolSize / 2));
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    // 호출 스레드에서 짧은 읽기 전용 트랜잭션으로 조회하고 바로 커넥션을 반납 (fork 전에 필요한 값을 읽을 때 사용)
+    public <T> T readOnly(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final CompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+        private final List<Future<Object>> futures = new ArrayList<>();
+        private boolean joined;
+
+        public <T> Supplier<T> fork(Callable<T> task) {
+            SqlRequestStats stats = SqlRequestStats.current();
+            RequestTiming timing = RequestTiming.current();
+            boolean primaryRead = ReplicationRoutingDataSource.isPrimaryRead();
+            Supplier<Object> inTransaction = () -> readOnlyTransaction.execute(status -> {
+                try {
+                    return task.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Callable<Object> withStats = () -> {
+                connectionPermits.acquire();
+                SqlRequestStats.bind(stats);
+                RequestTiming.bind(timing);
+                try {
+                    return primaryRead ? ReplicationRoutingDataSource.readFromPrimary(inTransaction) : inTransaction.get();
+                } finally {
+                    SqlRequestStats.end();
+                    RequestTiming.end();
+                    connectionPermits.release();
+                }
+            };
+
+            Future<Object> future = completionService.submit(DelegatingSecurityContextCallable.create(withStats, null));
+            futures.add(future);
+
+            @SuppressWarnings("unchecked")
+            Supplier<T> result = () -> {
+                if (!joined) {
+                    throw new IllegalStateException("join() 이후에만 결과를 조회할 수 있습니다.");
+                }
+                return (T) future.resultNow();
+            };
+            return result;
+        }
+
+        // 완료되는 순서대로 결과를 확인하므로, 늦게 fork한 작업이 먼저 실패해도 즉시 나머지를 취소함
+        public void join() {
+            try {
+                for (int i = 0; i < futures.size(); i++) {
+                    completionService.take().get();
+                }
+                joined = true;
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("동시 조회가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                cancelAll();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!joined) {
+                cancelAll();
+            }
+        }
+
+        private void cancelAll() {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+}
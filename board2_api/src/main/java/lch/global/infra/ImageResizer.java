@@ -0,0 +1,107 @@
+package lch.global.infra;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.stereotype.Component;
+
+/*
+ * 업로드된 원본 이미지를 지정한 너비의 JPEG로 축소하는 컴포넌트
+ * 큰 배율로 한 번에 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소한 뒤 최종 크기로 맞춤
+ */
+
+@Component
+public class ImageResizer {
+
+    // 디코딩 전에 픽셀 수를 확인하여 압축 폭탄(작은 파일, 거대한 해상도) 이미지로 인한 메모리 고갈 방지
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    // 원본 바이트를 디코딩 (이미지가 아니거나 너무 크면 null)
+    public BufferedImage read(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 최대 너비(maxWidth)에 맞춰 비율을 유지하며 축소한 JPEG 바이트를 반환 (원본이 더 작으면 확대하지 않음)
+    public byte[] resizeToJpeg(BufferedImage source, int maxWidth, float quality) throws IOException {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        // 목표 크기의 2배보다 크면 절반씩 줄여 나감
+        while (width / 2 >= targetWidth) {
+            width /= 2;
+            height = Math.max(1, height / 2);
+            current = draw(current, width, height);
+        }
+        if (width != targetWidth || current == source) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+
+        return encodeJpeg(current, quality);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        // JPEG는 알파 채널이 없으므로 RGB로 그리고, 투명 영역은 흰 배경으로 채움
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
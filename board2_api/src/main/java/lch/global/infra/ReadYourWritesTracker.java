@@ -0,0 +1,58 @@
+package lch.global.infra;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/*
+ * Read-your-writes 보장을 위한 유저별 최근 쓰기 시각 기록
+ * 복제 지연 때문에 방금 작성한 글/댓글이 레플리카에 아직 없을 수 있으므로,
+ * 쓰기 트랜잭션을 수행한 유저는 일정 시간(window) 동안 읽기도 Primary에서 수행하도록 함
+ */
+
+@Component
+public class ReadYourWritesTracker {
+
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    @Value("${app.datasource.read-your-writes-window-ms}")
+    private long windowMs;
+
+    // 쓰기 트랜잭션이 커넥션을 얻는 시점에 호출됨
+    public void recordWrite() {
+        Long userId = currentUserId();
+        if (userId != null) {
+            lastWriteAt.put(userId, System.currentTimeMillis());
+        }
+    }
+
+    public boolean isRecentWriter() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(userId);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < windowMs;
+    }
+
+    // 만료된 기록 정리 (맵이 무한히 커지지 않도록)
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - windowMs;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < threshold);
+    }
+
+    // PhantomTokenFilter가 SecurityContext에 넣어 둔 유저 PK (비로그인/스케줄러 스레드는 null)
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,85 @@
+package lch.global.infra;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * Redis 접근용 서킷 브레이커
+ * Redis 장애/지연이 API 전체의 지연으로 번지지 않도록, 명령 타임아웃(spring.data.redis.timeout)을 짧게 두고
+ * 실패 또는 느린 호출 비율이 임계값을 넘으면 일정 시간 동안 Redis 호출 없이 즉시 fallback을 사용
+ * 열린 동안에도 주기적으로 HALF_OPEN 상태에서 일부 호출을 흘려보내 복구 여부를 확인
+ */
+
+@Component
+public class RedisGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisGuard.class);
+
+    private final CircuitBreaker circuitBreaker;
+
+    public RedisGuard(MeterRegistry meterRegistry,
+                      @Value("${app.redis.breaker.failure-rate-threshold}") float failureRateThreshold,
+                      @Value("${app.redis.breaker.slow-call-ms}") long slowCallMillis,
+                      @Value("${app.redis.breaker.window-size}") int windowSize,
+                      @Value("${app.redis.breaker.open-duration-ms}") long openDurationMillis) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.min(10, windowSize))
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMillis))
+                .waitDurationInOpenState(Duration.ofMillis(openDurationMillis))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        this.circuitBreaker = registry.circuitBreaker("redis");
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Redis 서킷 브레이커 상태 변경: {}", event.getStateTransition()));
+
+        // resilience4j.circuitbreaker.state / calls 등 상태와 호출 결과를 메트릭으로 노출
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+    // Redis 호출이 실패하거나 브레이커가 열려 있으면 fallback 결과를 반환
+    // 실제 Redis 호출 시간만 요청의 RequestTiming(redis)에 기록 (fallback 시간은 제외)
+    public <T> T call(Supplier<T> action, Supplier<T> fallback) {
+        try {
+            return circuitBreaker.executeSupplier(() -> RequestTiming.time(RequestTiming.Category.REDIS, action));
+        } catch (CallNotPermittedException e) {
+            return fallback.get();
+        } catch (DataAccessException e) {
+            log.debug("Redis 호출 실패로 fallback 사용: {}", e.getMessage());
+            return fallback.get();
+        }
+    }
+
+    // 결과가 필요 없는 Redis 호출 (실패 시 무시)
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        }, () -> null);
+    }
+
+    // 브레이커가 열려 있어 Redis 호출을 시도하지 않는 상태인지 여부
+    public boolean isOpen() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+}
@@ -0,0 +1,121 @@
+package lch.global.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+ * 응답에 영향을 주지 않는 부가 Redis 쓰기(검색어 기록, 조회수 증가 등)를 요청 스레드 밖에서 처리하는 큐
+ * 1. 요청 스레드: 명령을 제한된 크기의 메모리 큐에 넣기만 하고 즉시 반환 (큐가 가득 차면 버리고 카운트)
+ * 2. 전송 스레드 1개: 쌓인 명령을 최대 batch-size개씩 꺼내 파이프라인 한 번(왕복 1회)으로 전송
+ * 유실을 허용하는 쓰기만 넣어야 하며, 버려지거나 전송에 실패한 명령 수는 메트릭으로 확인
+ * Redis 서킷 브레이커(RedisGuard)가 열려 있으면 큐에 넣지 않고 거절하여 호출한 쪽이 대체 처리를 선택할 수 있도록 함
+ */
+
+@Component
+public class RedisSideEffectQueue implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSideEffectQueue.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisGuard redisGuard;
+    private final BlockingQueue<Consumer<StringRedisConnection>> queue;
+    private final int batchSize;
+    private final Thread sender;
+    private volatile boolean running = true;
+
+    private final Counter submitted;
+    private final Counter dropped;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public RedisSideEffectQueue(StringRedisTemplate redisTemplate, RedisGuard redisGuard, MeterRegistry meterRegistry,
+                                @Value("${app.redis.side-effect.queue-capacity}") int queueCapacity,
+                                @Value("${app.redis.side-effect.batch-size}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.redisGuard = redisGuard;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+
+        this.submitted = Counter.builder("redis.side.effects").tag("result", "submitted").register(meterRegistry);
+        this.dropped = Counter.builder("redis.side.effects").tag("result", "dropped").register(meterRegistry);
+        this.rejected = Counter.builder("redis.side.effects").tag("result", "rejected").register(meterRegistry);
+        this.failed = Counter.builder("redis.side.effects").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("redis.side.effects.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.sender = Thread.ofPlatform().name("redis-side-effect").daemon().start(this::sendLoop);
+    }
+
+    // 큐에 명령을 넣고 즉시 반환하며, 받아들이지 않은 경우 false (브레이커가 열려 있거나 큐가 가득 참)
+    public boolean submit(Consumer<StringRedisConnection> command) {
+        if (redisGuard.isOpen()) {
+            rejected.increment();
+            return false;
+        }
+        if (queue.offer(command)) {
+            submitted.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private void sendLoop() {
+        List<Consumer<StringRedisConnection>> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Consumer<StringRedisConnection> first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청: 남은 명령을 모두 보낸 뒤 루프를 빠져나감
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<Consumer<StringRedisConnection>> batch) {
+        boolean sent = redisGuard.call(() -> {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                batch.forEach(command -> command.accept(stringConnection));
+                return null;
+            });
+            return true;
+        }, () -> false);
+
+        if (!sent) {
+            failed.increment(batch.size());
+            log.warn("Redis 부가 쓰기 {}건 전송 실패 (Redis 장애 또는 서킷 브레이커 열림)", batch.size());
+        }
+    }
+
+    // 종료 시 남은 명령을 최대한 전송한 뒤 종료 (최대 5초 대기)
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        sender.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
@@ -0,0 +1,73 @@
+package lch.global.infra;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/*
+ * 레플리카 복제 지연(lag) 감시
+ * 주기적으로 SHOW REPLICA STATUS를 조회하여 허용 지연(max-lag-seconds)을 넘은 레플리카는 읽기 라우팅에서 제외
+ * 복제 설정이 없는 단일 MySQL(로컬 개발 환경)은 결과가 비어 있으므로 지연 0으로 간주
+ */
+
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+
+    // 첫 점검 전까지는 모두 비정상으로 간주하여 Primary에서 읽음
+    private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, long maxLagSeconds) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isHealthy(String key) {
+        return healthy.getOrDefault(key, false);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms}")
+    public void check() {
+        replicas.forEach((key, dataSource) -> {
+            boolean wasHealthy = isHealthy(key);
+            boolean nowHealthy = isWithinLag(key, dataSource);
+            healthy.put(key, nowHealthy);
+
+            if (wasHealthy != nowHealthy) {
+                log.warn("레플리카 상태 변경 [{}]: {}", key, nowHealthy ? "읽기 라우팅 재개" : "읽기 라우팅 제외");
+            }
+        });
+    }
+
+    private boolean isWithinLag(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+            if (!rs.next()) {
+                return true; // 복제 대상이 아닌 단일 인스턴스
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            if (rs.wasNull()) {
+                return false; // 복제 스레드가 멈춘 상태
+            }
+            return lag <= maxLagSeconds;
+
+        } catch (Exception e) {
+            // 권한 부족(REPLICATION CLIENT) 또는 연결 실패 시 안전하게 Primary로 읽음
+            log.error("레플리카 지연 확인 실패 [{}]: {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package lch.global.infra;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/*
+ * 트랜잭션 속성에 따라 Primary / Read Replica 커넥션 풀을 선택하는 라우팅 DataSource
+ * - @Transactional(readOnly = true): 정상 상태인 레플리카 중 라운드 로빈으로 선택
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출): Primary
+ * - 최근에 쓰기를 수행한 유저의 읽기, 허용 지연을 넘은 레플리카: Primary로 우회
+ * - readFromPrimary()로 감싼 읽기: 유저와 무관하게 Primary로 우회 (방금 바뀐 콘텐츠를 공용 캐시/검증값과 함께 내보낼 때)
+ *
+ * readOnly 여부는 트랜잭션 시작 이후에 설정되므로, 반드시 LazyConnectionDataSourceProxy로 감싸
+ * 실제 쿼리가 실행되는 시점에 커넥션을 고르도록 해야 함 (DataSourceConfig 참고)
+ */
+
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+
+    // FanOutExecutor가 작업 스레드로 전달하므로 요청 안의 동시 조회도 같은 곳에서 읽음
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final List<String> replicaKeys;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(HikariDataSource primary, Map<String, HikariDataSource> replicas,
+                                       long maxLagSeconds, ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.replicaKeys = new ArrayList<>(replicas.keySet());
+        this.lagMonitor = new ReplicaLagMonitor(new HashMap<String, DataSource>(replicas), maxLagSeconds);
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite();
+            }
+            return PRIMARY;
+        }
+
+        if (replicaKeys.isEmpty() || isPrimaryRead() || readYourWritesTracker.isRecentWriter()) {
+            return PRIMARY;
+        }
+
+        // 라운드 로빈으로 정상 레플리카를 찾고, 모두 비정상이면 Primary로 읽음
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            String key = replicaKeys.get(Math.floorMod(cursor.getAndIncrement(), replicaKeys.size()));
+            if (lagMonitor.isHealthy(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    // action 안의 읽기 전용 트랜잭션을 모두 Primary로 라우팅
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READ.remove();
+            } else {
+                PRIMARY_READ.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPrimaryRead() {
+        return PRIMARY_READ.get() != null;
+    }
+
+    // 스케줄러가 지연 점검을 수행하도록 빈으로 노출하기 위한 접근자
+    public ReplicaLagMonitor getLagMonitor() {
+        return lagMonitor;
+    }
+
+    @Override
+    public void destroy() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
@@ -0,0 +1,119 @@
+package lch.global.infra;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+ * HTTP 요청 하나의 처리 시간 분해 (MySQL / Redis / S3 / JSON 직렬화별 누적 시간과 호출 횟수)
+ * RequestTimingFilter가 요청 시작 시 현재 스레드에 바인딩하고, 각 접근 지점이 호출마다 기록
+ * - db: SqlStatsListener (DataSource 프록시, 모든 리포지토리 쿼리)
+ * - redis: RedisGuard (동기 Redis 호출, 부가 쓰기 큐의 비동기 전송은 응답 시간에 포함되지 않으므로 제외)
+ * - s3: S3StorageService
+ * - json: PostJsonCache의 응답 템플릿 생성 (MVC 메시지 컨버터의 직렬화는 헤더 이후에 일어나므로 로그에서 write로 구분)
+ * FanOutExecutor로 동시에 실행된 작업도 같은 인스턴스에 기록하므로 항목 합계가 전체 시간보다 클 수 있음
+ */
+
+public class RequestTiming {
+
+    public enum Category {
+        DB("db"), REDIS("redis"), S3("s3"), JSON("json");
+
+        private final String metricName;
+
+        Category(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final long startNanos = System.nanoTime();
+    private final LongAdder[] nanos = new LongAdder[CATEGORIES.length];
+    private final LongAdder[] counts = new LongAdder[CATEGORIES.length];
+
+    private RequestTiming() {
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            nanos[i] = new LongAdder();
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    // 다른 스레드에서 같은 요청의 시간을 이어서 기록할 때 사용 (null이면 바인딩하지 않음)
+    public static void bind(RequestTiming timing) {
+        if (timing != null) {
+            CURRENT.set(timing);
+        }
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // 요청에 바인딩되지 않은 스레드(스케줄러, 워커)에서는 아무것도 하지 않음
+    public static void record(Category category, long elapsedNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[category.ordinal()].add(elapsedNanos);
+            timing.counts[category.ordinal()].increment();
+        }
+    }
+
+    public static <T> T time(Category category, Supplier<T> action) {
+        if (CURRENT.get() == null) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(category, System.nanoTime() - start);
+        }
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long nanos(Category category) {
+        return nanos[category.ordinal()].sum();
+    }
+
+    public long count(Category category) {
+        return counts[category.ordinal()].sum();
+    }
+
+    // Server-Timing 헤더 값 (예: db;dur=12.3;desc="4 calls", redis;dur=0.8;desc="2 calls", total;dur=15.1)
+    // 호출이 없었던 항목은 생략
+    public String toServerTiming() {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Category category : CATEGORIES) {
+            long count = count(category);
+            if (count > 0) {
+                joiner.add(category.metricName() + ";dur=" + millis(nanos(category)) + ";desc=\"" + count + " calls\"");
+            }
+        }
+        joiner.add("total;dur=" + millis(elapsedNanos()));
+        return joiner.toString();
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
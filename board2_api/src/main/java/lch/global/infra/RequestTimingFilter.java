@@ -0,0 +1,117 @@
+package lch.global.infra;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/*
+ * 요청마다 RequestTiming을 바인딩하고, 응답 본문을 쓰기 직전에 Server-Timing 헤더로 내보내는 필터
+ * 헤더는 본문보다 먼저 전송되어야 하므로 응답 스트림을 처음 여는 시점(getOutputStream/getWriter/flush/sendError)에 추가하고,
+ * 본문이 없는 응답(304 등)은 요청이 끝난 뒤 커밋 전에 추가
+ * 요청이 끝나면 헤더 이후의 본문 쓰기 시간(write)까지 포함한 전체 시간을 SlowRequestLog에 넘김
+ * 필터 순서: RequestTimingFilter -> SqlStatsFilter -> ConcurrencyLimitFilter -> 보안 필터 체인
+ *  가장 바깥에서 실행되어야 다른 필터(동시성 제한 대기/거절, SQL 통계 집계)에 쓴 시간까지 전체 시간에 포함됨
+ */
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final SlowRequestLog slowRequestLog;
+
+    @Value("${app.server-timing.expose-header}")
+    private boolean exposeHeader;
+
+    // 프론트엔드(다른 origin)의 Resource Timing API에서 Server-Timing 값을 읽을 수 있도록 허용
+    @Value("${app.frontend.url}")
+    private String frontendUrl;
+
+    public RequestTimingFilter(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        TimingResponse timingResponse = new TimingResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            RequestTiming.end();
+            timingResponse.writeTimingHeader();
+            slowRequestLog.offer(request, response.getStatus(), timing, timingResponse.headerNanos);
+        }
+    }
+
+    private class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        // 헤더를 쓴 시점까지의 경과 시간 (-1: 아직 쓰지 않음)
+        private long headerNanos = -1;
+
+        TimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        void writeTimingHeader() {
+            if (headerNanos >= 0) {
+                return;
+            }
+            headerNanos = timing.elapsedNanos();
+            if (exposeHeader && !isCommitted()) {
+                setHeader("Server-Timing", timing.toServerTiming());
+                setHeader("Timing-Allow-Origin", frontendUrl);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeTimingHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeTimingHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeTimingHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeTimingHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeTimingHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeTimingHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package lch.global.infra;
 
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,10 +11,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lch.global.error.BusinessException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @Service
@@ -22,12 +28,14 @@ public class S3StorageService {
     private static final Logger log = LoggerFactory.getLogger(S3StorageService.class);
 
     private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
 
-    public S3StorageService(S3Client s3Client) {
+    public S3StorageService(S3Client s3Client, MeterRegistry meterRegistry) {
         this.s3Client = s3Client;
+        this.meterRegistry = meterRegistry;
     }
 
     public String uploadFile(MultipartFile file) {
@@ -45,8 +53,8 @@ public class S3StorageService {
                     .contentType(file.getContentType())
                     .build();
 
-            s3Client.putObject(putObjectRequest,
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            RequestBody body = RequestBody.fromInputStream(file.getInputStream(), file.getSize());
+            timed("upload", () -> s3Client.putObject(putObjectRequest, body));
 
             log.info("S3 파일 업로드 성공: {}", s3Key); // 정보 로그
             return s3Key;
@@ -57,13 +65,48 @@ public class S3StorageService {
         }
     }
 
+    // 서버에서 생성한 바이트(이미지 파생본 등)를 지정한 키로 업로드
+    public void uploadBytes(String s3Key, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .build();
+
+        timed("upload_bytes", () -> s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes)));
+        log.info("S3 파일 업로드 성공: {}", s3Key);
+    }
+
+    // 원본 파일 내려받기 (비동기 이미지 변환 워커에서 사용)
+    public byte[] downloadFile(String s3Key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .build();
+
+        return timed("download", () -> s3Client.getObjectAsBytes(getObjectRequest).asByteArray());
+    }
+
+    // 프론트엔드에서 바로 사용할 수 있는 객체 URL (키가 없으면 null)
+    public String getFileUrl(String s3Key) {
+        if (s3Key == null) {
+            return null;
+        }
+        GetUrlRequest getUrlRequest = GetUrlRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .build();
+
+        return s3Client.utilities().getUrl(getUrlRequest).toExternalForm();
+    }
+
     public void deleteFile(String s3Key) {
         try {
             DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
                     .bucket(bucket)
                     .key(s3Key)
                     .build();
-            s3Client.deleteObject(deleteRequest);
+            timed("delete", () -> s3Client.deleteObject(deleteRequest));
             log.info("S3 파일 삭제 성공: {}", s3Key);
         } catch (Exception e) {
             // 삭제 실패 시에는 로직을 멈추지 않고 에러 로그만 남김
@@ -71,6 +114,27 @@ public class S3StorageService {
         }
     }
 
+    // S3 호출 지연 시간을 작업/결과별로 기록 (s3.requests{operation, outcome})
+    // 현재 요청의 RequestTiming(s3)에도 합산
+    private <T> T timed(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestTiming.record(RequestTiming.Category.S3, elapsed);
+            Timer.builder("s3.requests")
+                    .description("S3 API 호출 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
     private String getFileExtension(String fileName) {
         int dotIndex = fileName.lastIndexOf(".");
         return (dotIndex > 0) ? fileName.substring(dotIndex) : "";
@@ -0,0 +1,111 @@
+package lch.global.infra;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lch.global.infra.RequestTiming.Category;
+
+/*
+ * 느린 요청 표본 로그
+ * 임계값(app.server-timing.slow-request-ms)을 넘긴 요청 중 주기마다 가장 느린 N건만 남겨 한꺼번에 기록
+ * (부하가 몰려 모든 요청이 느려질 때 로그가 폭증하지 않도록, 나머지는 건수만 기록)
+ * 각 항목은 key-value 쌍으로 기록하므로 구조화 로그(logging.structured.format.*)를 켜면 JSON 필드로 출력됨
+ */
+
+@Component
+public class SlowRequestLog {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowRequestLog.class);
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final long thresholdNanos;
+    private final int samplesPerInterval;
+
+    // 이번 주기에서 가장 느린 요청들 (최소 힙: 가장 빠른 항목을 먼저 버림)
+    private final PriorityQueue<Sample> slowest = new PriorityQueue<>(Comparator.comparingLong(Sample::totalNanos));
+    private long skipped;
+
+    public SlowRequestLog(@Value("${app.server-timing.slow-request-ms}") long slowRequestMillis,
+                          @Value("${app.server-timing.slow-log-samples}") int samplesPerInterval) {
+        this.thresholdNanos = slowRequestMillis * 1_000_000L;
+        this.samplesPerInterval = samplesPerInterval;
+    }
+
+    // headerNanos: Server-Timing 헤더를 쓴 시점 (이후는 본문 직렬화/전송 시간)
+    void offer(HttpServletRequest request, int status, RequestTiming timing, long headerNanos) {
+        long totalNanos = timing.elapsedNanos();
+        if (totalNanos < thresholdNanos) {
+            return;
+        }
+
+        long[] nanos = new long[CATEGORIES.length];
+        long[] counts = new long[CATEGORIES.length];
+        for (Category category : CATEGORIES) {
+            nanos[category.ordinal()] = timing.nanos(category);
+            counts[category.ordinal()] = timing.count(category);
+        }
+        // URI 대신 매핑된 경로 패턴을 사용 (게시글 ID 등 식별자를 로그에 남기지 않음)
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Sample sample = new Sample(request.getMethod(), pattern != null ? pattern.toString() : "unmapped", status,
+                totalNanos, headerNanos >= 0 ? totalNanos - headerNanos : 0, nanos, counts);
+
+        synchronized (slowest) {
+            slowest.add(sample);
+            if (slowest.size() > samplesPerInterval) {
+                slowest.poll();
+                skipped++;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.server-timing.slow-log-interval-ms}")
+    void flush() {
+        List<Sample> samples;
+        long skippedCount;
+        synchronized (slowest) {
+            samples = new ArrayList<>(slowest);
+            skippedCount = skipped;
+            slowest.clear();
+            skipped = 0;
+        }
+        samples.sort(Comparator.comparingLong(Sample::totalNanos).reversed());
+
+        for (Sample sample : samples) {
+            LoggingEventBuilder event = log.atWarn()
+                    .addKeyValue("method", sample.method())
+                    .addKeyValue("route", sample.route())
+                    .addKeyValue("status", sample.status())
+                    .addKeyValue("total_ms", RequestTiming.millis(sample.totalNanos()))
+                    .addKeyValue("write_ms", RequestTiming.millis(sample.writeNanos()));
+            StringBuilder breakdown = new StringBuilder();
+            for (Category category : CATEGORIES) {
+                long nanos = sample.nanos()[category.ordinal()];
+                long count = sample.counts()[category.ordinal()];
+                event = event.addKeyValue(category.metricName() + "_ms", RequestTiming.millis(nanos))
+                        .addKeyValue(category.metricName() + "_calls", count);
+                breakdown.append(' ').append(category.metricName()).append('=')
+                        .append(RequestTiming.millis(nanos)).append("ms/").append(count);
+            }
+            event.log("느린 요청 {} {} {} total={}ms write={}ms{}", sample.method(), sample.route(), sample.status(),
+                    RequestTiming.millis(sample.totalNanos()), RequestTiming.millis(sample.writeNanos()), breakdown);
+        }
+        if (skippedCount > 0) {
+            log.warn("느린 요청 {}건은 표본에서 제외됨 (주기당 최대 {}건 기록)", skippedCount, samplesPerInterval);
+        }
+    }
+
+    private record Sample(String method, String route, int status, long totalNanos, long writeNanos,
+                          long[] nanos, long[] counts) {}
+}
@@ -0,0 +1,60 @@
+package lch.global.infra;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * HTTP 요청 하나에서 실행된 SQL 통계 (실행 횟수, 누적 DB 시간, SQL 형태별 실행 횟수)
+ * SqlStatsFilter가 요청 시작 시 현재 스레드에 바인딩하고, SqlStatsListener가 쿼리마다 기록
+ * 스케줄러/워커 스레드처럼 바인딩되지 않은 스레드의 쿼리는 집계하지 않음
+ * 요청 안에서 동시에 실행되는 작업(FanOutExecutor)도 같은 인스턴스에 기록하므로 스레드 안전하게 집계
+ */
+
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+    private final AtomicLong elapsedMillis = new AtomicLong();
+    private final Map<String, Integer> countsByShape = new ConcurrentHashMap<>();
+
+    public static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    // 다른 스레드에서 같은 요청의 통계를 이어서 기록할 때 사용 (null이면 바인딩하지 않음)
+    public static void bind(SqlRequestStats stats) {
+        if (stats != null) {
+            CURRENT.set(stats);
+        }
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void record(String shape, long elapsedMillis) {
+        this.statementCount.incrementAndGet();
+        this.elapsedMillis.addAndGet(elapsedMillis);
+        this.countsByShape.merge(shape, 1, Integer::sum);
+    }
+
+    // 같은 형태의 SQL이 threshold번 이상 반복된 경우 (N+1 의심)
+    public List<Map.Entry<String, Integer>> repeatedShapes(int threshold) {
+        return countsByShape.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .toList();
+    }
+
+    public int getStatementCount() { return statementCount.get(); }
+    public long getElapsedMillis() { return elapsedMillis.get(); }
+}
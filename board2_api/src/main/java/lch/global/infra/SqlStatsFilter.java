@@ -0,0 +1,95 @@
+package lch.global.infra;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+ * 요청 단위 SQL 계측 필터
+ * 요청마다 SqlRequestStats를 바인딩하고, 요청이 끝나면 실행 횟수/DB 시간을 컨트롤러 메서드별 메트릭으로 기록
+ * 같은 형태의 SQL이 임계값 이상 반복되면 N+1로 보고 원인이 된 컨트롤러 메서드와 함께 경고 로그를 남김
+ */
+
+// RequestTimingFilter 바로 안쪽 (순서는 RequestTimingFilter 주석 참고)
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql-stats.n-plus-one-threshold}")
+    private int nPlusOneThreshold;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlRequestStats stats) {
+        if (stats.getStatementCount() == 0) {
+            return;
+        }
+        String handler = handlerName(request);
+
+        DistributionSummary.builder("http.server.db.statements")
+                .description("요청당 JDBC 문장 수")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("http.server.db.time")
+                .description("요청당 누적 DB 시간")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(Duration.ofMillis(stats.getElapsedMillis()));
+
+        for (Map.Entry<String, Integer> repeated : stats.repeatedShapes(nPlusOneThreshold)) {
+            log.warn("N+1 의심 [{}] 같은 형태의 SQL이 {}회 실행됨: {}", handler, repeated.getValue(), repeated.getKey());
+            Counter.builder("db.n-plus-one")
+                    .description("N+1 의심 패턴이 감지된 요청 수")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    // 메트릭 태그 값이 무한히 늘어나지 않도록 URI가 아닌 컨트롤러 메서드 이름을 사용 (예: PostController#getPost)
+    private String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        }
+        return "none";
+    }
+}
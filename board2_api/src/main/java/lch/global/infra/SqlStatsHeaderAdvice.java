@@ -0,0 +1,35 @@
+package lch.global.infra;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// 개발/스테이징 환경에서 응답 헤더로 요청의 SQL 실행 횟수와 누적 DB 시간을 확인 (app.sql-stats.expose-header=true일 때만 등록)
+// 응답 본문을 쓰기 직전에 헤더를 추가하므로 서비스 로직에서 실행된 쿼리가 모두 집계된 값임
+
+@RestControllerAdvice
+@ConditionalOnProperty(name = "app.sql-stats.expose-header", havingValue = "true")
+public class SqlStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            response.getHeaders().set("X-DB-Statements", String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set("X-DB-Time-Ms", String.valueOf(stats.getElapsedMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,93 @@
+package lch.global.infra;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/*
+ * DataSource 프록시(datasource-proxy)에서 모든 SQL 실행 직후 호출되는 리스너
+ * 1. 현재 요청의 SqlRequestStats에 실행 횟수/시간/SQL 형태를 기록 (N+1 탐지용)
+ * 2. 임계값 이상 걸린 쿼리는 SQL과 바인딩 파라미터의 "타입"만 로그로 남김 (값은 개인정보가 포함될 수 있어 기록하지 않음)
+ * 3. 전체 쿼리 실행 시간을 Micrometer 타이머로 기록하고, 현재 요청의 RequestTiming(db)에도 합산
+ * show-sql처럼 모든 SQL을 동기로 출력하지 않으므로 운영 부하에서도 켜둘 수 있음
+ */
+
+public class SqlStatsListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsListener.class);
+
+    // IN (?, ?, ?)처럼 파라미터 개수만 다른 SQL을 같은 형태로 묶기 위한 정규화
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long slowQueryMillis;
+    private final Timer queryTimer;
+    private final Counter slowQueryCounter;
+
+    public SqlStatsListener(MeterRegistry meterRegistry, long slowQueryMillis) {
+        this.slowQueryMillis = slowQueryMillis;
+        this.queryTimer = Timer.builder("db.query")
+                .description("JDBC 문장 실행 시간")
+                .register(meterRegistry);
+        this.slowQueryCounter = Counter.builder("db.query.slow")
+                .description("임계값을 넘긴 JDBC 문장 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        queryTimer.record(elapsed, TimeUnit.MILLISECONDS);
+
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            // 배치 실행은 여러 SQL이 한 번의 왕복으로 전송되므로 1회로 집계
+            stats.record(shapeOf(queryInfoList), elapsed);
+        }
+        RequestTiming.record(RequestTiming.Category.DB, TimeUnit.MILLISECONDS.toNanos(elapsed));
+
+        if (elapsed >= slowQueryMillis) {
+            slowQueryCounter.increment();
+            log.warn("느린 쿼리 {}ms (batch: {}, size: {}) SQL: {} params: {}", elapsed, execInfo.isBatch(),
+                    execInfo.getBatchSize(), shapeOf(queryInfoList), parameterTypes(queryInfoList));
+        }
+    }
+
+    static String shapeOf(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return "";
+        }
+        String sql = WHITESPACE.matcher(queryInfoList.get(0).getQuery().trim()).replaceAll(" ");
+        return IN_LIST.matcher(sql).replaceAll("(?..)");
+    }
+
+    // 첫 번째 파라미터 세트의 타입 목록 (예: [Long, String, null])
+    private static String parameterTypes(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return "[]";
+        }
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (ParameterSetOperation operation : queryInfoList.get(0).getParametersList().get(0)) {
+            Object[] args = operation.getArgs();
+            boolean isNull = "setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null;
+            joiner.add(isNull ? "null" : args[1].getClass().getSimpleName());
+        }
+        return joiner.toString();
+    }
+}
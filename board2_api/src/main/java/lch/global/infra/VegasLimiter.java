@@ -0,0 +1,116 @@
+package lch.global.infra;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * TCP Vegas 방식의 적응형 동시 처리 한도
+ * 부하가 없을 때의 최소 응답 시간(rttNoLoad)과 현재 응답 시간을 비교하여 큐에 쌓인 요청 수를 추정하고,
+ *   queue = limit * (1 - rttNoLoad / rtt)
+ * 추정 큐가 alpha(3 * log10(limit))보다 작으면 한도를 늘리고 beta(6 * log10(limit))보다 크면 줄임
+ * DB 커넥션 풀 등 뒤쪽 자원이 포화되면 응답 시간이 먼저 늘어나므로, 타임아웃이 나기 전에 한도가 줄어 초과 요청을 바로 거절
+ * 트래픽 패턴이 바뀌어도 기준값이 낡지 않도록 표본 PROBE_INTERVAL_SAMPLES개 구간마다 rttNoLoad를 그 구간의 하위 10% 응답 시간으로 교체
+ * (최소값을 쓰면 드물게 섞인 아주 빠른 표본 하나가 기준이 되어, 보통 속도의 요청마다 큐가 한도만큼 찬 것으로 보고 한도를 줄임)
+ * 첫 구간이 끝나기 전에는 비교할 구간이 없으므로 그때까지의 최소값을 기준으로 사용
+ * 늘리기와 줄이기 모두 한도의 절반 이상을 쓰고 있을 때만 수행 (가벼운 부하에서 느린 요청 몇 개로 한도가 줄어들지 않도록)
+ */
+
+public final class VegasLimiter {
+
+    static final int PROBE_INTERVAL_SAMPLES = 1000;
+    // 기준값으로 쓸 구간 내 순위 (nearest-rank 방식의 10번째 백분위수)
+    static final int BASELINE_RANK = (int) Math.ceil(PROBE_INTERVAL_SAMPLES * 0.1) - 1;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private long rttNoLoadNanos;
+    // 현재 구간의 응답 시간 표본 (구간이 끝나면 하위 10% 값이 rttNoLoad가 됨)
+    private final long[] window = new long[PROBE_INTERVAL_SAMPLES];
+    private int samplesSinceProbe;
+    private boolean baselineFromWindow;
+
+    public VegasLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    // 한도 안이면 처리 중 요청 수를 늘리고 true, 한도를 넘으면 false
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 응답 시간 표본을 반영하고 처리 중 요청 수를 줄임
+    // inflightAtStart: 요청 시작 시점의 처리 중 요청 수 (한도를 다 쓰지 않는 상태에서는 한도를 늘리지 않기 위함)
+    public void release(long rttNanos, int inflightAtStart) {
+        inflight.decrementAndGet();
+        onSample(rttNanos, inflightAtStart);
+    }
+
+    // 예외 등으로 응답 시간이 의미 없을 때는 표본 없이 반환만 함
+    public void releaseWithoutSample() {
+        inflight.decrementAndGet();
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        window[samplesSinceProbe] = rttNanos;
+        if (++samplesSinceProbe >= PROBE_INTERVAL_SAMPLES) {
+            samplesSinceProbe = 0;
+            long[] sorted = window.clone();
+            Arrays.sort(sorted);
+            rttNoLoadNanos = sorted[BASELINE_RANK];
+            baselineFromWindow = true;
+        }
+        if (!baselineFromWindow && (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos)) {
+            rttNoLoadNanos = rttNanos;
+            return;
+        }
+
+        double current = limit;
+        // 한도를 다 쓰지 않는 상태의 응답 시간은 큐가 아니라 요청 자체의 비용 차이이므로 한도 판단에 쓰지 않음
+        if (inflightAtStart * 2 < current) {
+            return;
+        }
+        double log = Math.max(1.0, Math.log10(current));
+        double queue = Math.ceil(current * (1.0 - (double) rttNoLoadNanos / rttNanos));
+
+        double next;
+        if (queue <= 3 * log) {
+            next = current + log;
+        } else if (queue >= 6 * log) {
+            next = current - log;
+        } else {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    // 테스트에서 기준값 갱신을 확인하기 위한 접근자
+    synchronized long getRttNoLoadNanos() {
+        return rttNoLoadNanos;
+    }
+
+    // 한도 대비 처리 중 요청 비율 (우선순위 판단용)
+    public double utilization() {
+        return inflight.get() / limit;
+    }
+}
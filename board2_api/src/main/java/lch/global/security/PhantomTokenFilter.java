@@ -1,7 +1,9 @@
 package lch.global.security;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -12,11 +14,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lch.global.infra.RedisGuard;
 
 @Component
 public class PhantomTokenFilter extends OncePerRequestFilter {
@@ -26,10 +35,32 @@ public class PhantomTokenFilter extends OncePerRequestFilter {
 
     private final StringRedisTemplate redisTemplate;
     private final JwtProvider jwtProvider;
+    private final RedisGuard redisGuard;
+
+    // Redis에서 최근에 확인된 토큰 -> JWT 매핑 (Redis 장애 시에만 사용)
+    // 장애 중에는 새 로그인 토큰을 확인할 수 없으므로, 이 노드에서 최근 사용된 세션만 TTL 동안 유지
+    // 장애 직전(또는 다른 노드에서) 로그아웃된 토큰도 TTL 동안은 통과할 수 있으므로
+    //  - TTL을 짧게 유지하고
+    //  - 조회(GET/HEAD)에만 사용: 쓰기, 로그아웃 등 상태를 바꾸는 요청은 폐기 여부를 확인할 수 없으면 인증하지 않음 (fail closed)
+    private final Cache<String, String> recentTokens;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lookupTimer;
 
-    public PhantomTokenFilter(StringRedisTemplate redisTemplate, JwtProvider jwtProvider) {
+    public PhantomTokenFilter(StringRedisTemplate redisTemplate, JwtProvider jwtProvider, RedisGuard redisGuard,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.token.local-cache-ttl-seconds}") long localCacheTtlSeconds) {
         this.redisTemplate = redisTemplate;
         this.jwtProvider = jwtProvider;
+        this.redisGuard = redisGuard;
+        this.meterRegistry = meterRegistry;
+        this.lookupTimer = Timer.builder("auth.token.lookup")
+                .description("토큰으로 JWT를 찾는 데 걸린 시간 (Redis 또는 장애 시 로컬 캐시)")
+                .register(meterRegistry);
+        this.recentTokens = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(localCacheTtlSeconds))
+                .build();
     }
 
     @Override
@@ -39,9 +70,17 @@ public class PhantomTokenFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
 
         if (StringUtils.hasText(token)) {
-            String jwt = redisTemplate.opsForValue().get(redisTokenPrefix + token);
-
-            if (StringUtils.hasText(jwt)) {
+            AtomicBoolean fromLocal = new AtomicBoolean();
+            String jwt = lookupTimer.record(() -> redisGuard.call(
+                    () -> redisTemplate.opsForValue().get(redisTokenPrefix + token),
+                    () -> {
+                        fromLocal.set(true);
+                        return isSafeMethod(request) ? recentTokens.getIfPresent(token) : null;
+                    }));
+
+            if (!StringUtils.hasText(jwt)) {
+                countLookup(fromLocal.get() && !isSafeMethod(request) ? "local-rejected" : "missing");
+            } else {
                 try {
                     // 1. Redis에서 꺼낸 JWT 파싱
                     Claims claims = jwtProvider.getClaims(jwt);
@@ -53,10 +92,14 @@ public class PhantomTokenFilter extends OncePerRequestFilter {
                             new UsernamePasswordAuthenticationToken(userId, null,
                                     Collections.singletonList(new SimpleGrantedAuthority(role)));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    recentTokens.put(token, jwt);
+                    countLookup(fromLocal.get() ? "local" : "redis");
 
                 } catch (Exception e) {
                 	// 검증 실패 시 로그만 남기는 것이 아니라 Redis에 저장된 잘못된 토큰 정보를 즉시 삭제
-                    redisTemplate.delete(redisTokenPrefix + token);
+                    recentTokens.invalidate(token);
+                    countLookup("invalid");
+                    redisGuard.run(() -> redisTemplate.delete(redisTokenPrefix + token));
                     logger.error("Invalid or corrupted JWT token removed from Redis: " + e.getMessage());
                 }
             }
@@ -65,7 +108,26 @@ public class PhantomTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    // 로그아웃한 토큰을 이 노드의 장애 대비 캐시에서도 즉시 제거
+    public void forget(String token) {
+        recentTokens.invalidate(token);
+    }
+
+    private static boolean isSafeMethod(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+    }
+
+    // result: redis(정상 인증), local(Redis 장애 중 로컬 캐시로 인증), local-rejected(장애 중 상태 변경 요청이라 거부),
+    //         missing(만료/로그아웃), invalid(JWT 검증 실패)
+    private void countLookup(String result) {
+        Counter.builder("auth.token.lookups")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 벤치마크(src/jmh)에서 직접 호출할 수 있도록 package-private
+    static String resolveToken(HttpServletRequest request) {
         // 1. HTTP 헤더에서 토큰을 먼저 확인합니다. (일반 폼 로그인의 경우)
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
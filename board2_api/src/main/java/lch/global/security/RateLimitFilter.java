@@ -0,0 +1,246 @@
+package lch.global.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lch.global.infra.RedisGuard;
+
+/*
+ * 비용이 큰 엔드포인트(검색 LIKE 스캔, 게시글 작성 S3 업로드, 로그인 BCrypt)에 대한 토큰 버킷 요청 제한
+ * 인증된 요청은 사용자 ID, 비로그인 요청은 클라이언트 IP 단위로 버킷을 두며, 경로마다 다른 용량/충전 속도를 사용
+ * 로그인 규칙은 인증 여부와 관계없이 항상 IP 단위 (남의 계정을 대입하는 공격자가 자기 토큰을 붙여 IP 한도를 우회하지 못하도록)
+ * 프론트엔드(Vercel rewrites)를 거친 요청은 접속 주소가 프록시 주소이므로, 접속 주소가 신뢰하는 프록시
+ * (app.rate-limit.trusted-proxies)일 때만 X-Forwarded-For를 오른쪽부터 읽어 신뢰하지 않는 첫 주소를 클라이언트 IP로 사용
+ * (RemoteIpValve와 같은 방식, 클라이언트가 임의로 넣은 왼쪽 항목은 무시)
+ * 기본은 노드 메모리의 버킷이고, app.rate-limit.redis-enabled=true이면 Lua 스크립트로 Redis에서 버킷을 공유하여
+ * 노드 수와 관계없이 같은 한도를 적용 (Redis 장애 시에는 노드 로컬 버킷으로 대체)
+ * 한도를 넘으면 429와 Retry-After(초)를 반환
+ */
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // tokens/ts 해시로 버킷 상태를 저장하고, 시각은 Redis 서버 시간(TIME)을 사용하여 노드 간 시계 차이를 배제
+    // 반환값: 0이면 허용, 양수이면 토큰 1개가 채워질 때까지 기다려야 하는 밀리초
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) / refill_per_ms)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+            return wait
+            """, Long.class);
+
+    private static final String REDIS_KEY_PREFIX = "rate:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisGuard redisGuard;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final List<Rule> rules;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    // 오래 요청이 없는 키의 버킷은 자동으로 제거 (IP 단위 키가 무한히 쌓이지 않도록)
+    private final Cache<String, TokenBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public RateLimitFilter(StringRedisTemplate redisTemplate, RedisGuard redisGuard, MeterRegistry meterRegistry,
+                           @Value("${app.rate-limit.enabled}") boolean enabled,
+                           @Value("${app.rate-limit.redis-enabled}") boolean redisEnabled,
+                           @Value("${app.rate-limit.search.capacity}") int searchCapacity,
+                           @Value("${app.rate-limit.search.refill-per-second}") double searchRefill,
+                           @Value("${app.rate-limit.post-create.capacity}") int postCreateCapacity,
+                           @Value("${app.rate-limit.post-create.refill-per-second}") double postCreateRefill,
+                           @Value("${app.rate-limit.login.capacity}") int loginCapacity,
+                           @Value("${app.rate-limit.login.refill-per-second}") double loginRefill,
+                           @Value("${app.rate-limit.trusted-proxies}") List<String> trustedProxies) {
+        this.redisTemplate = redisTemplate;
+        this.redisGuard = redisGuard;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.rules = List.of(
+                new Rule("search", "GET", "/posts/search", searchCapacity, searchRefill, false),
+                new Rule("post-create", "POST", "/posts", postCreateCapacity, postCreateRefill, false),
+                new Rule("login", "POST", "/auth/login", loginCapacity, loginRefill, true));
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(cidr -> !cidr.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || findRule(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Rule rule = findRule(request);
+        String key = rule.name() + ":" + clientKey(rule, request);
+        long waitMillis = redisEnabled
+                ? redisGuard.call(() -> consumeShared(rule, key), () -> consumeLocal(rule, key))
+                : consumeLocal(rule, key);
+
+        if (waitMillis > 0) {
+            rejectedCounter(rule).increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"success\":false,\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\",\"data\":null}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Rule rule : rules) {
+            if (rule.method().equals(request.getMethod()) && rule.path().equals(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // PhantomTokenFilter 이후에 실행되므로 인증된 요청은 사용자 ID로 구분 (IP를 공유하는 사용자끼리 한도를 나눠 쓰지 않도록)
+    // 단, perIp 규칙(로그인)은 요청 주체가 아닌 출처를 제한하는 것이므로 항상 IP로 구분
+    private String clientKey(Rule rule, HttpServletRequest request) {
+        if (rule.perIp()) {
+            return "ip:" + clientIp(request);
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return "user:" + userId;
+        }
+        return "ip:" + clientIp(request);
+    }
+
+    // 접속 주소부터 X-Forwarded-For를 오른쪽에서 왼쪽으로 거슬러 올라가며, 신뢰하는 프록시가 아닌 첫 주소를 반환
+    // 모든 항목이 신뢰하는 프록시이거나 IP 형식이 아닌 항목을 만나면 그 직전까지 확인한 주소를 사용
+    private String clientIp(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || !isTrustedProxy(address)) {
+            return address;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpLiteral(hop)) {
+                return address;
+            }
+            address = hop;
+            if (!isTrustedProxy(address)) {
+                return address;
+            }
+        }
+        return address;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            if (proxy.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 헤더 값으로 DNS 조회가 일어나지 않도록 IP 리터럴만 허용 (IPv4 점 표기 또는 ':'가 포함된 IPv6)
+    private static boolean isIpLiteral(String value) {
+        return !value.isEmpty() && (value.indexOf(':') >= 0
+                ? value.chars().allMatch(c -> c == ':' || c == '.' || Character.digit(c, 16) >= 0)
+                : value.chars().allMatch(c -> c == '.' || (c >= '0' && c <= '9')));
+    }
+
+    private long consumeLocal(Rule rule, String key) {
+        TokenBucket bucket = localBuckets.get(key, k -> new TokenBucket(rule.capacity(), rule.refillPerSecond()));
+        return bucket.tryConsume();
+    }
+
+    private long consumeShared(Rule rule, String key) {
+        Long wait = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(REDIS_KEY_PREFIX + key),
+                String.valueOf(rule.capacity()), String.valueOf(rule.refillPerSecond() / 1000.0));
+        return wait != null ? wait : 0L;
+    }
+
+    private Counter rejectedCounter(Rule rule) {
+        return Counter.builder("http.server.requests.rate.limited")
+                .tag("rule", rule.name())
+                .register(meterRegistry);
+    }
+
+    // perIp: 인증 여부와 관계없이 클라이언트 IP로 버킷을 구분
+    private record Rule(String name, String method, String path, int capacity, double refillPerSecond, boolean perIp) {}
+
+    // 노드 로컬 토큰 버킷: 마지막 요청 이후 경과 시간만큼 토큰을 채운 뒤 1개를 소비
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        // 허용되면 0, 아니면 다음 토큰까지 남은 밀리초
+        synchronized long tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0L;
+            }
+            return Math.max(1L, TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - tokens) / refillPerNano)));
+        }
+    }
+}
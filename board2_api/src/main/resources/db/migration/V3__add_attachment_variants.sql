@@ -0,0 +1,16 @@
+-- 첨부파일 이미지 파생본(썸네일, 웹 최적화본)
+-- variant_status 컬럼이 비동기 변환 작업 큐 역할을 하며, (상태, 갱신 시각) 인덱스로 미처리 작업을 스윕
+ALTER TABLE attachments
+    ADD COLUMN content_type VARCHAR(100) NULL,
+    ADD COLUMN thumbnail_s3_key VARCHAR(500) NULL,
+    ADD COLUMN web_s3_key VARCHAR(500) NULL,
+    ADD COLUMN variant_status VARCHAR(20) NOT NULL DEFAULT 'NONE',
+    ADD COLUMN variant_attempts INT NOT NULL DEFAULT 0,
+    ADD COLUMN variant_updated_at DATETIME(6) NULL;
+
+CREATE INDEX idx_attachment_variant_status ON attachments (variant_status, variant_updated_at);
+
+-- 기존 이미지 첨부파일도 스윕 대상으로 등록 (디코딩할 수 없는 파일은 워커가 FAILED 처리)
+UPDATE attachments
+SET variant_status = 'PENDING'
+WHERE LOWER(file_name) REGEXP '\\.(jpe?g|png|gif|bmp)$';
@@ -0,0 +1,12 @@
+-- JPA TableGenerator용 PK 할당 테이블
+-- IDENTITY(AUTO_INCREMENT)는 INSERT를 즉시 실행해야 PK를 알 수 있어 JDBC 배치가 불가능하므로,
+-- 엔티티별로 다음에 할당할 PK(next_val)를 보관하고 애플리케이션이 50개 단위로 미리 가져가 사용 (pooled-lo)
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+-- 기존 데이터와 PK가 겹치지 않도록 현재 최대값 다음부터 할당
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'posts', COALESCE(MAX(id), 0) + 1 FROM posts;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 1 FROM comments;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'attachments', COALESCE(MAX(id), 0) + 1 FROM attachments;
@@ -0,0 +1,20 @@
+-- 게시글 본문 분리 테이블
+-- posts에는 목록 조회에 필요한 짧은 컬럼만 남겨 InnoDB 페이지당 행 수를 늘리고, 본문은 PK(post_id)로만 조회
+-- encoding = 'DEFLATE'인 본문은 MySQL COMPRESS() 형식(4바이트 원본 길이 + zlib)으로 저장되어 UNCOMPRESS()로 해제 가능
+CREATE TABLE post_bodies (
+    post_id BIGINT PRIMARY KEY,
+    encoding VARCHAR(10) NOT NULL,
+    content MEDIUMBLOB NOT NULL,
+    CONSTRAINT fk_post_body_post FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+-- 기존 본문 이관 (UTF-8 바이트 그대로)
+INSERT INTO post_bodies (post_id, encoding, content)
+SELECT id, 'NONE', CAST(CONVERT(content USING utf8mb4) AS BINARY) FROM posts;
+
+-- 압축 임계값(app.post.body-compression-threshold, 기본 2KB) 이상인 기존 본문은 압축하여 저장
+UPDATE post_bodies
+SET encoding = 'DEFLATE', content = COMPRESS(content)
+WHERE LENGTH(content) >= 2048;
+
+ALTER TABLE posts DROP COLUMN content;
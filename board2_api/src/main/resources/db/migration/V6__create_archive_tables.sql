@@ -0,0 +1,46 @@
+-- 오래된 게시글 보관(archive) 계층
+-- MySQL은 외래키가 있는 InnoDB 테이블을 파티셔닝할 수 없으므로(posts/comments/attachments 모두 FK 보유)
+-- created_at 기준으로 오래된 게시글을 별도 테이블로 옮겨 운영 테이블(posts 등)의 인덱스를 작게 유지
+-- 이관은 PostArchiveService가 배치 단위로 수행하며, 보관 테이블은 조회/삭제만 허용 (수정 불가)
+
+-- 목록 조회(최신순)와 이관 대상 선정(오래된 순)이 모두 created_at 인덱스를 사용
+CREATE INDEX idx_post_created_at ON posts (created_at);
+
+-- 보관 게시글: 본문(post_bodies)과 이관 시점의 조회수를 한 행에 저장
+CREATE TABLE archived_posts (
+    id BIGINT PRIMARY KEY,
+    author_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    encoding VARCHAR(10) NOT NULL,
+    content MEDIUMBLOB NOT NULL,
+    view_count BIGINT NOT NULL DEFAULT 0,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    INDEX idx_archived_post_created_at (created_at),
+    CONSTRAINT fk_archived_post_author FOREIGN KEY (author_id) REFERENCES users(id)
+);
+
+CREATE TABLE archived_comments (
+    id BIGINT PRIMARY KEY,
+    post_id BIGINT NOT NULL,
+    author_id BIGINT NOT NULL,
+    content TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_archived_comment_post FOREIGN KEY (post_id) REFERENCES archived_posts(id) ON DELETE CASCADE,
+    CONSTRAINT fk_archived_comment_author FOREIGN KEY (author_id) REFERENCES users(id)
+);
+
+-- 보관 첨부파일: 파생본 작업 큐 컬럼(variant_status 등)은 옮기지 않고 완성된 S3 키만 보관
+CREATE TABLE archived_attachments (
+    id BIGINT PRIMARY KEY,
+    post_id BIGINT NOT NULL,
+    s3_key VARCHAR(500) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    content_type VARCHAR(100) NULL,
+    thumbnail_s3_key VARCHAR(500) NULL,
+    web_s3_key VARCHAR(500) NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_archived_attachment_post FOREIGN KEY (post_id) REFERENCES archived_posts(id) ON DELETE CASCADE
+);
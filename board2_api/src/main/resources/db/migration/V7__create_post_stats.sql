@@ -0,0 +1,21 @@
+-- 게시글 카운터 분리 테이블
+-- 조회수 반영(스케줄러)이 posts 행을 갱신하면 ON UPDATE CURRENT_TIMESTAMP로 updated_at까지 바뀌고,
+-- 작성자의 수정(updatePost)과 같은 행 잠금을 두고 경쟁하므로 카운터만 좁은 테이블로 분리
+-- 모든 카운터는 "값 = 값 + 증감분" 형태로만 갱신
+CREATE TABLE post_stats (
+    post_id BIGINT PRIMARY KEY,
+    view_count BIGINT NOT NULL DEFAULT 0,
+    comment_count INT NOT NULL DEFAULT 0,
+    attachment_count INT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_post_stats_post FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+-- 기존 조회수와 댓글/첨부파일 수 이관
+INSERT INTO post_stats (post_id, view_count, comment_count, attachment_count)
+SELECT p.id,
+       COALESCE(p.view_count, 0),
+       (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id),
+       (SELECT COUNT(*) FROM attachments a WHERE a.post_id = p.id)
+FROM posts p;
+
+ALTER TABLE posts DROP COLUMN view_count;
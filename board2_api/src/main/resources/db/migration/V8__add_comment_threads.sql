@@ -0,0 +1,50 @@
+-- 계층형 댓글(답글) - 경로 열거(materialized path) 방식
+-- path: 루트부터 자신까지의 "형제 내 순번"을 8자리로 0 채움 + '/'로 이은 값 (예: 00000003/00000001/)
+--   게시글 안에서 path 순으로 정렬하면 스레드가 깊이 우선(작성순) 트리 순서가 되고,
+--   어떤 댓글의 하위 전체는 [path, path의 마지막 '/'를 '0'으로 바꾼 값) 범위이므로
+--   (post_id, path) 인덱스 한 번의 범위 조회로 스레드/서브트리 전체 또는 커서 이후 한 페이지를 읽음
+--   ascii_bin 정렬로 바이트 순 비교 (숫자와 '/'만 사용)
+-- 순번은 PK(id_generators 선할당, 다중 노드에서 시간순이 아님) 대신 부모별 카운터로 발급
+--   최상위 댓글: post_stats.thread_seq, 답글: 부모 댓글의 child_seq
+-- reply_count: 삭제되지 않은 하위 댓글 전체 수 (답글 작성/삭제 시 모든 조상 행을 증감)
+-- 답글이 남아 있는 댓글은 행을 지우지 않고 deleted_at만 기록 (스레드 구조 유지)
+-- parent_id에는 외래키를 두지 않음 (게시글 삭제 시 ON DELETE CASCADE로 지워지는 순서와 충돌)
+
+ALTER TABLE comments
+    ADD COLUMN parent_id BIGINT NULL AFTER post_id,
+    ADD COLUMN path VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER parent_id,
+    ADD COLUMN depth INT NOT NULL DEFAULT 0 AFTER path,
+    ADD COLUMN reply_count INT NOT NULL DEFAULT 0 AFTER depth,
+    ADD COLUMN child_seq INT NOT NULL DEFAULT 0 AFTER reply_count,
+    ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- 기존 댓글은 모두 최상위 댓글로, 게시글별 작성(id) 순으로 순번 부여
+UPDATE comments c
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY post_id ORDER BY id) AS seq FROM comments) r ON r.id = c.id
+SET c.path = CONCAT(LPAD(r.seq, 8, '0'), '/');
+
+ALTER TABLE comments
+    MODIFY COLUMN path VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    ADD UNIQUE INDEX uk_comment_post_path (post_id, path);
+
+ALTER TABLE post_stats ADD COLUMN thread_seq INT NOT NULL DEFAULT 0;
+
+UPDATE post_stats s
+JOIN (SELECT post_id, COUNT(*) AS n FROM comments GROUP BY post_id) c ON c.post_id = s.post_id
+SET s.thread_seq = c.n;
+
+-- 보관 댓글도 같은 트리 순서로 조회 (순번 카운터는 더 이상 발급하지 않으므로 옮기지 않음)
+ALTER TABLE archived_comments
+    ADD COLUMN parent_id BIGINT NULL AFTER post_id,
+    ADD COLUMN path VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER parent_id,
+    ADD COLUMN depth INT NOT NULL DEFAULT 0 AFTER path,
+    ADD COLUMN reply_count INT NOT NULL DEFAULT 0 AFTER depth,
+    ADD COLUMN deleted_at DATETIME(6) NULL;
+
+UPDATE archived_comments c
+JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY post_id ORDER BY id) AS seq FROM archived_comments) r ON r.id = c.id
+SET c.path = CONCAT(LPAD(r.seq, 8, '0'), '/');
+
+ALTER TABLE archived_comments
+    MODIFY COLUMN path VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    ADD UNIQUE INDEX uk_archived_comment_post_path (post_id, path);
@@ -0,0 +1,116 @@
+package lch.domain.post.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CommentTest {
+
+	// comments.path 컬럼 길이 (V8__add_comment_threads.sql)
+	private static final int PATH_COLUMN_LENGTH = 255;
+	// app.comment.max-depth 기본값
+	private static final int DEFAULT_MAX_DEPTH = 10;
+
+	@Test
+	void 경로는_형제_순번_8자리와_구분자로_이어짐() {
+		Comment root = root("댓글", 3);
+		Comment reply = new Comment(root, null, "답글", 12);
+
+		assertThat(root.getPath()).isEqualTo("00000003/");
+		assertThat(root.getDepth()).isZero();
+		assertThat(reply.getPath()).isEqualTo("00000003/00000012/");
+		assertThat(reply.getDepth()).isEqualTo(1);
+	}
+
+	@Test
+	void 순번_1의_서브트리_범위에_순번_10과_100인_형제는_포함되지_않음() {
+		Comment first = root("1", 1);
+		Comment tenth = root("10", 10);
+		Comment hundredth = root("100", 100);
+		Comment reply = new Comment(first, null, "1-1", 1);
+		Comment deepReply = new Comment(reply, null, "1-1-10", 10);
+
+		assertThat(inSubtree(first, reply.getPath())).isTrue();
+		assertThat(inSubtree(first, deepReply.getPath())).isTrue();
+		assertThat(inSubtree(first, tenth.getPath())).isFalse();
+		assertThat(inSubtree(first, hundredth.getPath())).isFalse();
+		// 자기 자신은 하위 범위(path, subtreeEnd)에 포함하지 않음
+		assertThat(inSubtree(first, first.getPath())).isFalse();
+	}
+
+	@Test
+	void 경로의_바이트_순서가_깊이_우선_트리_순서() {
+		Comment first = root("1", 1);
+		Comment second = root("2", 2);
+		Comment tenth = root("10", 10);
+		Comment firstReply = new Comment(first, null, "1-1", 1);
+		Comment firstTenthReply = new Comment(first, null, "1-10", 10);
+		Comment nested = new Comment(firstReply, null, "1-1-1", 1);
+
+		List<String> paths = new ArrayList<>(List.of(tenth.getPath(), nested.getPath(), second.getPath(),
+				firstTenthReply.getPath(), first.getPath(), firstReply.getPath()));
+		// ascii_bin 정렬과 같은 순서 (경로는 숫자와 '/'만 사용)
+		Collections.sort(paths);
+
+		assertThat(paths).containsExactly(first.getPath(), firstReply.getPath(), nested.getPath(),
+				firstTenthReply.getPath(), second.getPath(), tenth.getPath());
+	}
+
+	@Test
+	void 서브트리_상한은_마지막_구분자를_0으로_바꾼_값() {
+		assertThat(Comment.subtreeEnd("00000001/")).isEqualTo("000000010");
+		assertThat(Comment.subtreeEnd("00000001/00000002/")).isEqualTo("00000001/000000020");
+		assertThat(Comment.subtreeEnd("00000001/")).isLessThan(Comment.PATH_END);
+	}
+
+	@Test
+	void 조상_경로는_루트부터_부모까지() {
+		Comment root = root("root", 1);
+		Comment child = new Comment(root, null, "child", 2);
+		Comment grandChild = new Comment(child, null, "grandChild", 3);
+
+		assertThat(root.ancestorPaths()).isEmpty();
+		assertThat(grandChild.ancestorPaths()).containsExactly("00000001/", "00000001/00000002/");
+	}
+
+	@Test
+	void 최대_깊이의_답글도_경로_컬럼에_들어가고_조상_수는_깊이와_같음() {
+		Comment comment = root("root", 99_999_999);
+		for (int depth = 1; depth <= DEFAULT_MAX_DEPTH; depth++) {
+			comment = new Comment(comment, null, "reply", 99_999_999);
+		}
+
+		assertThat(comment.getDepth()).isEqualTo(DEFAULT_MAX_DEPTH);
+		assertThat(comment.getPath()).hasSize((DEFAULT_MAX_DEPTH + 1) * Comment.SEGMENT_LENGTH);
+		assertThat(comment.getPath().length()).isLessThanOrEqualTo(PATH_COLUMN_LENGTH);
+		assertThat(comment.ancestorPaths()).hasSize(DEFAULT_MAX_DEPTH);
+		assertThat(Comment.isValidPath(comment.getPath())).isTrue();
+	}
+
+	@Test
+	void 커서_경로_형식_검증() {
+		assertThat(Comment.isValidPath("00000001/")).isTrue();
+		assertThat(Comment.isValidPath("00000001/00000020/")).isTrue();
+
+		assertThat(Comment.isValidPath("")).isFalse();
+		assertThat(Comment.isValidPath("1/")).isFalse();
+		assertThat(Comment.isValidPath("00000001")).isFalse();
+		assertThat(Comment.isValidPath("0000001/")).isFalse();
+		assertThat(Comment.isValidPath("00000001/' OR '1'='1")).isFalse();
+		assertThat(Comment.isValidPath(Comment.PATH_END)).isFalse();
+	}
+
+	// 최상위 댓글 (경로 계산에는 게시글/작성자가 필요 없음)
+	private static Comment root(String content, int threadSeq) {
+		return new Comment((Post) null, null, content, threadSeq);
+	}
+
+	// CommentRepository.findPathRange(postId, path, subtreeEnd)와 같은 배타 범위
+	private static boolean inSubtree(Comment ancestor, String path) {
+		return path.compareTo(ancestor.getPath()) > 0 && path.compareTo(ancestor.subtreeEnd()) < 0;
+	}
+}
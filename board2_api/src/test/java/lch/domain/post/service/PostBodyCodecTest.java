@@ -0,0 +1,130 @@
+package lch.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.junit.jupiter.api.Test;
+
+import lch.domain.post.entity.PostBody;
+import lch.domain.post.entity.PostBodyEncoding;
+
+class PostBodyCodecTest {
+
+	private static final int THRESHOLD = 64;
+
+	private final PostBodyCodec codec = new PostBodyCodec(THRESHOLD);
+
+	@Test
+	void 임계값_미만_본문은_압축하지_않고_UTF8_바이트로_저장() {
+		String content = "짧은 본문";
+
+		PostBody body = codec.encode(1L, content);
+
+		assertThat(body.getEncoding()).isEqualTo(PostBodyEncoding.NONE);
+		assertThat(body.getContent()).isEqualTo(content.getBytes(StandardCharsets.UTF_8));
+		assertThat(codec.decode(body)).isEqualTo(content);
+	}
+
+	@Test
+	void 임계값은_문자_수가_아닌_UTF8_바이트_수로_판단() {
+		// 한글 22자 = 66바이트 (임계값 64바이트 이상)
+		String content = "가".repeat(22);
+		assertThat(content.length()).isLessThan(THRESHOLD);
+
+		PostBody body = codec.encode(1L, content);
+
+		assertThat(body.getEncoding()).isEqualTo(PostBodyEncoding.DEFLATE);
+		assertThat(codec.decode(body)).isEqualTo(content);
+	}
+
+	@Test
+	void 임계값과_같은_크기부터_압축() {
+		assertThat(codec.encode(1L, "a".repeat(THRESHOLD - 1)).getEncoding()).isEqualTo(PostBodyEncoding.NONE);
+		assertThat(codec.encode(1L, "a".repeat(THRESHOLD)).getEncoding()).isEqualTo(PostBodyEncoding.DEFLATE);
+	}
+
+	@Test
+	void 압축_본문은_MySQL_COMPRESS_형식() throws Exception {
+		String content = "게시글 본문 ".repeat(100);
+		byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+
+		byte[] stored = codec.encode(1L, content).getContent();
+
+		// 4바이트 리틀엔디언 원본 길이 + zlib 스트림 (UNCOMPRESS()가 읽는 형식)
+		int header = (stored[0] & 0xFF) | (stored[1] & 0xFF) << 8 | (stored[2] & 0xFF) << 16 | (stored[3] & 0xFF) << 24;
+		assertThat(header).isEqualTo(raw.length);
+		assertThat(stored.length).isLessThan(raw.length);
+
+		Inflater inflater = new Inflater();
+		inflater.setInput(Arrays.copyOfRange(stored, 4, stored.length));
+		byte[] inflated = new byte[raw.length];
+		int length = inflater.inflate(inflated);
+		inflater.end();
+		assertThat(length).isEqualTo(raw.length);
+		assertThat(inflated).isEqualTo(raw);
+	}
+
+	@Test
+	void 압축되지_않은_기존_본문도_그대로_해제() {
+		byte[] legacy = "이관 전 본문".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(codec.decode(PostBodyEncoding.NONE, legacy)).isEqualTo("이관 전 본문");
+	}
+
+	@Test
+	void 수정_시_크기에_따라_저장_형식이_바뀜() {
+		String longContent = "긴 본문 ".repeat(50);
+		PostBody body = codec.encode(1L, "짧은 본문");
+
+		codec.rewrite(body, longContent);
+		assertThat(body.getEncoding()).isEqualTo(PostBodyEncoding.DEFLATE);
+		assertThat(codec.decode(body)).isEqualTo(longContent);
+
+		codec.rewrite(body, "다시 짧게");
+		assertThat(body.getEncoding()).isEqualTo(PostBodyEncoding.NONE);
+		assertThat(codec.decode(body)).isEqualTo("다시 짧게");
+	}
+
+	@Test
+	void 손상된_압축_본문은_예외() {
+		byte[] stored = codec.encode(1L, "a".repeat(THRESHOLD * 4)).getContent();
+		stored[4] = 0; // zlib 헤더(압축 방식) 손상
+
+		assertThatThrownBy(() -> codec.decode(PostBodyEncoding.DEFLATE, stored))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void 잘린_압축_본문은_0으로_채우지_않고_예외() {
+		byte[] stored = codec.encode(1L, "게시글 본문 ".repeat(100)).getContent();
+		byte[] truncated = Arrays.copyOf(stored, stored.length / 2);
+
+		assertThatThrownBy(() -> codec.decode(PostBodyEncoding.DEFLATE, truncated))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void 사전이_필요한_압축_스트림은_예외() {
+		byte[] raw = "a".repeat(THRESHOLD * 4).getBytes(StandardCharsets.UTF_8);
+		Deflater deflater = new Deflater();
+		deflater.setDictionary("dictionary".getBytes(StandardCharsets.UTF_8));
+		deflater.setInput(raw);
+		deflater.finish();
+		byte[] buffer = new byte[1024];
+		int length = deflater.deflate(buffer);
+		deflater.end();
+
+		byte[] stored = new byte[4 + length];
+		stored[0] = (byte) raw.length;
+		stored[1] = (byte) (raw.length >>> 8);
+		System.arraycopy(buffer, 0, stored, 4, length);
+
+		assertThatThrownBy(() -> codec.decode(PostBodyEncoding.DEFLATE, stored))
+				.isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,151 @@
+package lch.global.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class VegasLimiterTest {
+
+	private static final double LOG_20 = Math.log10(20);
+
+	@Test
+	void 첫_표본은_기준값만_잡고_한도는_그대로() {
+		VegasLimiter limiter = new VegasLimiter(20, 1, 200);
+
+		sample(limiter, 50, 20);
+
+		assertThat(limiter.getRttNoLoadNanos()).isEqualTo(millis(50));
+		assertThat(limiter.getLimit()).isEqualTo(20.0);
+	}
+
+	@Test
+	void 응답시간이_기준값과_같고_한도를_충분히_쓰면_log10만큼_늘림() {
+		VegasLimiter limiter = new VegasLimiter(20, 1, 200);
+		sample(limiter, 10, 20);
+
+		sample(limiter, 10, 20);
+
+		assertThat(limiter.getLimit()).isCloseTo(20 + LOG_20, within(1e-9));
+	}
+
+	@Test
+	void 처리_중_요청이_한도의_절반보다_적으면_늘리지_않음() {
+		VegasLimiter limiter = new VegasLimiter(20, 1, 200);
+		sample(limiter, 10, 20);
+
+		sample(limiter, 10, 9);
+
+		assertThat(limiter.getLimit()).isEqualTo(20.0);
+	}
+
+	@Test
+	void 추정_큐가_beta_이상이면_log10만큼_줄임() {
+		VegasLimiter limiter = new VegasLimiter(20, 1, 200);
+		sample(limiter, 10, 20);
+
+		// queue = ceil(20 * (1 - 10/50)) = 16 >= 6 * log10(20)
+		sample(limiter, 50, 20);
+
+		assertThat(limiter.getLimit()).isCloseTo(20 - LOG_20, within(1e-9));
+	}
+
+	@Test
+	void 추정_큐가_alpha와_beta_사이면_유지() {
+		VegasLimiter limiter = new VegasLimiter(20, 1, 200);
+		sample(limiter, 10, 20);
+
+		// queue = ceil(20 * (1 - 10/13)) = 5, 3 * log10(20) < 5 < 6 * log10(20)
+		sample(limiter, 13, 20);
+
+		assertThat(limiter.getLimit()).isEqualTo(20.0);
+	}
+
+	@Test
+	void 한도는_min과_max_사이로_제한() {
+		VegasLimiter limiter = new VegasLimiter(20, 18, 21);
+		sample(limiter, 10, 20);
+
+		sample(limiter, 10, 20);
+		assertThat(limiter.getLimit()).isEqualTo(21.0);
+
+		for (int i = 0; i < 10; i++) {
+			sample(limiter, 100, 20);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(18.0);
+	}
+
+	@Test
+	void 한도에_도달하면_tryAcquire가_거절() {
+		VegasLimiter limiter = new VegasLimiter(2, 1, 200);
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+
+		limiter.releaseWithoutSample();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.getInflight()).isEqualTo(2);
+	}
+
+	@Test
+	void 가벼운_부하에서는_느린_표본이_와도_한도를_줄이지_않음() {
+		VegasLimiter limiter = new VegasLimiter(20, 1, 200);
+		sample(limiter, 10, 20);
+
+		// 한도를 다 쓰고 있었다면 queue = 16으로 줄였을 응답 시간
+		sample(limiter, 50, 2);
+
+		assertThat(limiter.getLimit()).isEqualTo(20.0);
+	}
+
+	@Test
+	void 구간이_끝나면_기준값은_구간의_하위_10퍼센트_응답시간() {
+		VegasLimiter limiter = new VegasLimiter(20, 1, 200);
+		int fast = VegasLimiter.BASELINE_RANK + 1;
+		for (int i = 0; i < VegasLimiter.PROBE_INTERVAL_SAMPLES; i++) {
+			sample(limiter, i < fast ? 10 : 50, 2);
+		}
+		assertThat(limiter.getRttNoLoadNanos()).isEqualTo(millis(10));
+
+		// 빠른 표본이 10%에 못 미치면 기준값이 되지 않음 (구간 중에 더 빠른 표본이 와도 기준값은 그대로)
+		for (int i = 0; i < VegasLimiter.PROBE_INTERVAL_SAMPLES; i++) {
+			sample(limiter, i < fast - 1 ? 5 : 50, 2);
+			if (i < VegasLimiter.PROBE_INTERVAL_SAMPLES - 1) {
+				assertThat(limiter.getRttNoLoadNanos()).isEqualTo(millis(10));
+			}
+		}
+		assertThat(limiter.getRttNoLoadNanos()).isEqualTo(millis(50));
+	}
+
+	@Test
+	void 빠른_캐시_응답이_드물게_섞여도_보통_응답시간을_기준으로_한도를_조정() {
+		VegasLimiter limiter = new VegasLimiter(20, 1, 200);
+		// 5%는 1ms(캐시 적중), 나머지는 20ms(DB 조회)인 가벼운 트래픽
+		for (int i = 0; i < VegasLimiter.PROBE_INTERVAL_SAMPLES; i++) {
+			sample(limiter, i % 20 == 0 ? 1 : 20, 2);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(20.0);
+		assertThat(limiter.getRttNoLoadNanos()).isEqualTo(millis(20));
+
+		// 최소값(1ms)이 기준이었다면 queue = 19로 보고 줄였을 20ms 응답이, 한도를 다 쓰는 상태에서는 한도를 늘림
+		sample(limiter, 20, 20);
+		assertThat(limiter.getLimit()).isCloseTo(20 + LOG_20, within(1e-9));
+
+		// 실제로 대기가 생겨 응답 시간이 늘어나면 줄임
+		double grown = limiter.getLimit();
+		sample(limiter, 100, 21);
+		assertThat(limiter.getLimit()).isLessThan(grown);
+	}
+
+	private static void sample(VegasLimiter limiter, long rttMillis, int inflightAtStart) {
+		assertThat(limiter.tryAcquire()).isTrue();
+		limiter.release(millis(rttMillis), inflightAtStart);
+	}
+
+	private static long millis(long value) {
+		return TimeUnit.MILLISECONDS.toNanos(value);
+	}
+}
@@ -0,0 +1,139 @@
+package lch.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+	private static final String PROXY = "10.0.0.5";
+	private static final String CLIENT_A = "203.0.113.1";
+	private static final String CLIENT_B = "203.0.113.2";
+
+	// 검색/로그인 모두 연속 2회까지 허용, 로그인은 10초에 1개씩 회복 (노드 로컬 버킷)
+	private final RateLimitFilter filter = new RateLimitFilter(null, null, new SimpleMeterRegistry(), true, false,
+			2, 1, 5, 0.2, 2, 0.1, List.of("10.0.0.0/8", " "));
+
+	@AfterEach
+	void clearAuthentication() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void 한도를_넘으면_429와_Retry_After를_반환하고_다음_필터로_넘기지_않음() throws Exception {
+		assertThat(login(CLIENT_A, null).getStatus()).isEqualTo(HttpStatus.OK.value());
+		assertThat(login(CLIENT_A, null).getStatus()).isEqualTo(HttpStatus.OK.value());
+
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse rejected = new MockHttpServletResponse();
+		filter.doFilter(request("POST", "/auth/login", CLIENT_A, null), rejected, chain);
+
+		assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		// 0.1개/초 회복이므로 다음 토큰까지 10초
+		assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+		assertThat(chain.getRequest()).isNull();
+	}
+
+	@Test
+	void 신뢰하는_프록시를_거친_요청은_X_Forwarded_For의_클라이언트_IP로_구분() throws Exception {
+		login(PROXY, CLIENT_A);
+		login(PROXY, CLIENT_A);
+
+		assertThat(login(PROXY, CLIENT_A).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		// 같은 프록시를 거쳐도 다른 클라이언트는 자기 버킷을 사용
+		assertThat(login(PROXY, CLIENT_B).getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	@Test
+	void 클라이언트가_왼쪽에_덧붙인_X_Forwarded_For_항목은_무시() throws Exception {
+		login(PROXY, "198.51.100.1, " + CLIENT_A);
+		login(PROXY, "198.51.100.2, " + CLIENT_A);
+
+		assertThat(login(PROXY, "198.51.100.3, " + CLIENT_A).getStatus())
+				.isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	@Test
+	void 신뢰하지_않는_접속_주소의_X_Forwarded_For는_무시() throws Exception {
+		login(CLIENT_A, "198.51.100.1");
+		login(CLIENT_A, "198.51.100.2");
+
+		assertThat(login(CLIENT_A, "198.51.100.3").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	@Test
+	void IP_형식이_아닌_X_Forwarded_For_항목은_프록시_주소로_대체() throws Exception {
+		login(PROXY, "unknown");
+		login(PROXY, "localhost");
+
+		assertThat(login(PROXY, "example.com").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	@Test
+	void 인증된_검색_요청은_같은_IP라도_사용자별_버킷() throws Exception {
+		authenticate(1L);
+		search(CLIENT_A);
+		search(CLIENT_A);
+		assertThat(search(CLIENT_A).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+		authenticate(2L);
+		assertThat(search(CLIENT_A).getStatus()).isEqualTo(HttpStatus.OK.value());
+	}
+
+	@Test
+	void 로그인은_인증되어_있어도_IP_단위() throws Exception {
+		authenticate(1L);
+		login(CLIENT_A, null);
+		login(CLIENT_A, null);
+
+		authenticate(2L);
+		assertThat(login(CLIENT_A, null).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	@Test
+	void 제한_대상이_아닌_경로는_통과() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			filter.doFilter(request("GET", "/posts", CLIENT_A, null), response, new MockFilterChain());
+			assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+		}
+	}
+
+	private MockHttpServletResponse login(String remoteAddr, String forwardedFor) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request("POST", "/auth/login", remoteAddr, forwardedFor), response, new MockFilterChain());
+		return response;
+	}
+
+	private MockHttpServletResponse search(String remoteAddr) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request("GET", "/posts/search", remoteAddr, null), response, new MockFilterChain());
+		return response;
+	}
+
+	private static MockHttpServletRequest request(String method, String uri, String remoteAddr, String forwardedFor) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		request.setRemoteAddr(remoteAddr);
+		if (forwardedFor != null) {
+			request.addHeader("X-Forwarded-For", forwardedFor);
+		}
+		return request;
+	}
+
+	// PhantomTokenFilter가 SecurityContext에 넣는 것과 같은 형태 (principal = 사용자 PK)
+	private static void authenticate(Long userId) {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(userId, null));
+	}
+}